@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DataFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -23,11 +24,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,7 +61,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,12 +71,42 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book at {@code filePath}, as selected by {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        AddressBookStorage addressBookStorage;
+        if (config.isSaveToJournal()) {
+            DataFormat format = config.getAddressBookFormat();
+            if (format == DataFormat.BINARY) {
+                logger.warning("Journal snapshots cannot be binary, so they will be saved as "
+                        + DataFormat.PRETTY_JSON + " instead of " + format + ".");
+                format = DataFormat.PRETTY_JSON;
+            }
+            addressBookStorage = new JournalAddressBookStorage(filePath, format, config.getAddressBookBackupCount());
+        } else if (config.getAddressBookFormat() == DataFormat.BINARY) {
+            addressBookStorage = new BinaryAddressBookStorage(filePath, config.getAddressBookBackupCount());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(filePath, config.getAddressBookFormat(),
+                    config.getAddressBookBackupCount());
+        }
+
+        if (config.isSaveInBackground()) {
+            addressBookStorage = new WriteBehindAddressBookStorage(addressBookStorage, this::reportSaveFailure);
+        }
+        return addressBookStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * When saving to a journal, the app does not start at all on such errors instead, as the first save would then
+     * write the empty address book over the unreadable one.
+     *
+     * @throws DataLoadingException if {@code storage}'s address book could not be read and is saved to a journal.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) throws DataLoadingException {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -85,12 +119,38 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
+            if (config.isSaveToJournal()) {
+                logger.severe("Data file at " + storage.getAddressBookFilePath() + " or its journal could not be"
+                        + " loaded. Not starting, so that they are not overwritten.");
+                throw e;
+            }
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        int filterParallelThreshold = config.getFilterParallelThreshold();
+        if (filterParallelThreshold <= 0) {
+            logger.warning("Filter parallel threshold " + filterParallelThreshold + " is not positive."
+                    + " Will be using the default of " + Config.DEFAULT_FILTER_PARALLEL_THRESHOLD + " instead.");
+            filterParallelThreshold = Config.DEFAULT_FILTER_PARALLEL_THRESHOLD;
+        }
+        if (Runtime.getRuntime().availableProcessors() < 2) {
+            // Splitting the work across threads that share one processor only adds to it
+            logger.info("Only one processor is available, so persons will not be filtered in parallel.");
+            filterParallelThreshold = Integer.MAX_VALUE;
+        }
+        return new ModelManager(initialData, userPrefs, filterParallelThreshold);
+    }
+
+    /**
+     * Tells the user through the UI that a background save to {@code filePath} failed, if the UI has started.
+     * Runs on the background writer thread.
+     */
+    private void reportSaveFailure(Path filePath, IOException cause) {
+        if (ui != null) {
+            ui.showSaveFailure(filePath, cause);
+        }
     }
 
     private void initLogging(Config config) {
@@ -182,5 +242,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
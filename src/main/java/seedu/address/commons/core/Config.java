@@ -14,9 +14,32 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * Default number of persons at or above which the filtered person list tests them in parallel, on machines with
+     * more than one processor. FilteredPersonListBenchmark, in the test sources, times filtering with and without
+     * parallelism, but has so far only been run on a single core, where parallelism can only add overhead; it is thus
+     * turned off on single-processor machines. On several cores, the default is a conservative guess rather than a
+     * measurement: one thread filters fewer persons with a keyword search within a frame. Run the benchmark on the
+     * target machine to tune it in the config file.
+     */
+    public static final int DEFAULT_FILTER_PARALLEL_THRESHOLD = 50_000;
+
+    /**
+     * Formats in which the address book data file can be written.
+     * {@code BINARY} snapshots are faster to load but cannot be edited by hand.
+     */
+    public enum DataFormat {
+        PRETTY_JSON, COMPACT_JSON, GZIP_JSON, BINARY
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean saveInBackground = false;
+    private boolean saveToJournal = false;
+    private DataFormat addressBookFormat = DataFormat.PRETTY_JSON;
+    private int addressBookBackupCount = 0;
+    private int filterParallelThreshold = DEFAULT_FILTER_PARALLEL_THRESHOLD;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +57,68 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book should be saved by a background writer instead of after every command.
+     */
+    public boolean isSaveInBackground() {
+        return saveInBackground;
+    }
+
+    public void setSaveInBackground(boolean saveInBackground) {
+        this.saveInBackground = saveInBackground;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal instead of rewriting the data file.
+     * The data file is then a snapshot, rewritten only once the journal has grown, in the {@code addressBookFormat}
+     * unless that is {@code BINARY}, which snapshots cannot use; they are then saved as {@code PRETTY_JSON}.
+     * The {@code addressBookBackupCount} applies to the snapshots.
+     */
+    public boolean isSaveToJournal() {
+        return saveToJournal;
+    }
+
+    public void setSaveToJournal(boolean saveToJournal) {
+        this.saveToJournal = saveToJournal;
+    }
+
+    /**
+     * Returns the format in which the address book data file is written. When saving to a journal, see
+     * {@link #isSaveToJournal()}, {@code BINARY} is not available and {@code PRETTY_JSON} is used instead.
+     * The format of an existing file is detected when it is read, regardless of this setting.
+     */
+    public DataFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(DataFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    /**
+     * Returns the number of previous versions of the address book data file to keep as backups.
+     * None are kept by default.
+     */
+    public int getAddressBookBackupCount() {
+        return addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    /**
+     * Returns the number of persons at or above which the filtered person list tests them in parallel when its
+     * predicate changes. Must be positive.
+     */
+    public int getFilterParallelThreshold() {
+        return filterParallelThreshold;
+    }
+
+    public void setFilterParallelThreshold(int filterParallelThreshold) {
+        this.filterParallelThreshold = filterParallelThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +132,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveInBackground == otherConfig.saveInBackground
+                && saveToJournal == otherConfig.saveToJournal
+                && addressBookFormat == otherConfig.addressBookFormat
+                && addressBookBackupCount == otherConfig.addressBookBackupCount
+                && filterParallelThreshold == otherConfig.filterParallelThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveInBackground, saveToJournal, addressBookFormat,
+                addressBookBackupCount, filterParallelThreshold);
     }
 
     @Override
@@ -60,6 +151,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveInBackground", saveInBackground)
+                .add("saveToJournal", saveToJournal)
+                .add("addressBookFormat", addressBookFormat)
+                .add("addressBookBackupCount", addressBookBackupCount)
+                .add("filterParallelThreshold", filterParallelThreshold)
                 .toString();
     }
 
@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +91,102 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file keeps its previous content if writing fails part way through.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, 0, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, such that a crash at any point leaves
+     * either the old or the new content in place. The content is written to a temporary sibling file, forced to disk,
+     * and then moved over {@code file}. The directory is then forced to disk too, so that the move itself survives a
+     * crash, on platforms that allow a directory to be opened for this.
+     * Will create the file if it does not exist yet.
+     *
+     * @param backupCount number of previous versions of the file to keep, see {@link #getBackupPath(Path, int)}.
+     */
+    public static void writeAtomically(Path file, int backupCount, ContentWriter writer) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.write(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            replaceAtomically(file, tempFile, backupCount);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code replacement}, which must already be on disk, over {@code file} in a single step, and then forces
+     * the directory to disk as in {@link #writeAtomically(Path, int, ContentWriter)}.
+     *
+     * @param backupCount number of previous versions of the file to keep, see {@link #getBackupPath(Path, int)}.
+     */
+    public static void replaceAtomically(Path file, Path replacement, int backupCount) throws IOException {
+        if (backupCount > 0 && isFileExists(file)) {
+            rotateBackups(file, backupCount);
+        }
+        try {
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the location of the backup of {@code file} that is {@code generation} versions old, starting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, if the platform allows a directory to be opened for this.
+     * Windows, for one, does not, and there the move is made durable by the file system itself.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (UnsupportedOperationException | IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Shifts each backup of {@code file} one generation older, dropping the oldest, and backs up {@code file} as
+     * the newest generation.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackup = getBackupPath(file, 1);
+        Files.deleteIfExists(newestBackup);
+        try {
+            // A hard link keeps the current content once the file is replaced, without copying it
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
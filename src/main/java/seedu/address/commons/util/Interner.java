@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by the data they are made from.
+ *
+ * Interning the same key twice returns the same instance, so equal values share one object while both are in use.
+ * The pool only holds its instances weakly: an instance that is no longer used elsewhere can be garbage collected,
+ * and its entry is dropped the next time the pool is used.
+ *
+ * @param <K> the type of the data values are made from
+ * @param <V> the type of the values
+ */
+public class Interner<K, V> {
+
+    private final Function<K, V> factory;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Creates a pool that makes a new value from a key with {@code factory}, when it has no value for that key.
+     */
+    public Interner(Function<K, V> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, making it with the factory if there is none.
+     * Any exception thrown by the factory is passed on, and nothing is added to the pool.
+     */
+    public synchronized V intern(K key) {
+        requireNonNull(key);
+        dropCollectedEntries();
+        Entry<K, V> entry = entries.get(key);
+        V value = entry == null ? null : entry.get();
+        if (value == null) {
+            value = factory.apply(key);
+            entries.put(key, new Entry<>(key, value, collectedValues));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of keys with a canonical value, including any values that have been collected but not yet
+     * dropped.
+     */
+    public synchronized int size() {
+        dropCollectedEntries();
+        return entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dropCollectedEntries() {
+        Entry<K, V> entry;
+        while ((entry = (Entry<K, V>) collectedValues.poll()) != null) {
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical value, which remembers its key so that it can be dropped once collected.
+     */
+    private static class Entry<K, V> extends WeakReference<V> {
+        private final K key;
+
+        Entry(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -53,15 +55,32 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim().toLowerCase(); // Convert to lowercase for case-insensitive matching
+        String preppedWord = word.trim().toLowerCase(Locale.ROOT); // Lowercase for case-insensitive matching
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence.toLowerCase(); // Convert to lowercase for case-insensitive matching
+        String preppedSentence = sentence.toLowerCase(Locale.ROOT); // Lowercase for case-insensitive matching
 
         return preppedSentence.contains(preppedWord);
     }
 
+    /**
+     * Returns {@code words} trimmed and in lower case, for matching against text that is already in lower case.
+     *
+     * @param words cannot be null, and each word cannot be null, cannot be empty, must be a single word
+     */
+    public static String[] toLowerCaseWords(List<String> words) {
+        requireNonNull(words);
+        String[] lowerCaseWords = new String[words.size()];
+        for (int i = 0; i < lowerCaseWords.length; i++) {
+            String preppedWord = words.get(i).trim().toLowerCase(Locale.ROOT);
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+            lowerCaseWords[i] = preppedWord;
+        }
+        return lowerCaseWords;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
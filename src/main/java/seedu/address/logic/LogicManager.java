@@ -48,8 +48,14 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long modificationCountBeforeCommand = model.getAddressBook().getModificationCount();
         commandResult = command.execute(model);
 
+        if (model.getAddressBook().getModificationCount() == modificationCountBeforeCommand) {
+            // Nothing to save, e.g. the command only changed which contacts are displayed
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,6 +17,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_NAME_SUGGESTIONS = "\nDid you mean: %1$s?";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -31,6 +33,18 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns {@code message} followed by the names of {@code suggestions}, if there are any.
+     */
+    public static String withNameSuggestions(String message, List<Person> suggestions) {
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+
+        String names = suggestions.stream().map(person -> person.getName().fullName).collect(Collectors.joining(", "));
+        return message + String.format(MESSAGE_NAME_SUGGESTIONS, names);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
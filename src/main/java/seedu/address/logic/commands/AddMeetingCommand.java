@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Meeting;
@@ -30,6 +31,8 @@ public class AddMeetingCommand extends Command {
             + "are as follows:\n" + "%2$s\n";
     public static final String MESSAGE_ADD_MEETING_WARN = "Changed the existing meeting with %1$s.\n"
             + "Previous meeting details: %3$s\n" + "Updated meeting details: %2$s";
+    public static final String MESSAGE_MEETING_OVERLAP = "\nNote: this meeting overlaps with your meeting with "
+            + "%1$s (%2$s).";
     public static final String MESSAGE_DELETE_MEETING_SUCCESS = "Removed the meeting with %1$s.";
     public static final String MESSAGE_DELETE_MEETING_FAILURE =
             "Error! %1$s's contact does not have a meeting to remove.";
@@ -62,17 +65,9 @@ public class AddMeetingCommand extends Command {
             logger.log(Level.WARNING, "empty name inputted.");
             throw new CommandException(MESSAGE_EMPTY_NAME);
         }
-        List<Person> contactList = model.getFilteredPersonList();
-        Person personToEdit = null;
-        for (Person person : contactList) {
-            if (person.getName().fullName.equalsIgnoreCase(name)) {
-                personToEdit = person;
-                break;
-            }
-        }
-        if (personToEdit == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name));
-        }
+        Person personToEdit = model.findPersonByName(name)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        String.format(MESSAGE_PERSON_NOT_FOUND, name), model.suggestPersonsByName(name))));
         String prevMeeting = personToEdit.getMeeting().toString();
 
         if (meeting.toString().isEmpty()) {
@@ -84,6 +79,7 @@ public class AddMeetingCommand extends Command {
         } else {
             message = MESSAGE_ADD_MEETING_SUCCESS;
         }
+        List<Person> overlappingMeetings = model.getMeetingsOverlapping(meeting);
         Person editedPerson = new Person(
                 personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
                 personToEdit.getAddress(), personToEdit.getCompany(), meeting, personToEdit.getPriority(),
@@ -91,7 +87,13 @@ public class AddMeetingCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(generateSuccessMessage(editedPerson, prevMeeting));
+        StringBuilder result = new StringBuilder(generateSuccessMessage(editedPerson, prevMeeting));
+        for (Person person : overlappingMeetings) {
+            if (person != personToEdit) {
+                result.append(String.format(MESSAGE_MEETING_OVERLAP, person.getName(), person.getMeeting()));
+            }
+        }
+        return new CommandResult(result.toString());
     }
 
     /**
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.MeetingBetweenPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the meetings in the address book in time order, optionally only those between two dates.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all meetings in time order, "
+            + "or only the meetings from FROM_DATE to TO_DATE inclusive, and displays the contacts met.\n"
+            + "Parameters: [FROM_DATE TO_DATE] (dates in the format dd-MM-yyyy)\n"
+            + "Example: " + COMMAND_WORD + " 01-03-2024 31-03-2024";
+
+    public static final String MESSAGE_SUCCESS = "Your agenda:\n%1$s";
+
+    public static final String MESSAGE_AGENDA_ENTRY = "%1$d. %2$s with %3$s\n";
+
+    public static final String MESSAGE_NO_MEETINGS_FOUND = "Oops! No meetings found.";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates an AgendaCommand that lists all meetings.
+     */
+    public AgendaCommand() {
+        this(LocalDate.MIN, LocalDate.MAX);
+    }
+
+    /**
+     * Creates an AgendaCommand that lists the meetings from {@code from} to {@code to} inclusive.
+     */
+    public AgendaCommand(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> agenda = model.getMeetingsBetween(from, to);
+        model.updateFilteredPersonList(new MeetingBetweenPredicate(from, to));
+        if (agenda.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MEETINGS_FOUND);
+        }
+
+        StringBuilder entries = new StringBuilder();
+        for (int i = 0; i < agenda.size(); i++) {
+            Person person = agenda.get(i);
+            entries.append(String.format(MESSAGE_AGENDA_ENTRY, i + 1, person.getMeeting(), person.getName()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entries.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return from.equals(otherAgendaCommand.from) && to.equals(otherAgendaCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
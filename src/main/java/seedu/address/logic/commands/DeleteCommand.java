@@ -2,9 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -31,17 +30,10 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> contactList = model.getFilteredPersonList();
-        Person personToDelete = null;
-        for (Person person : contactList) {
-            if (person.getName().fullName.equalsIgnoreCase(targetName)) {
-                personToDelete = person;
-                break;
-            }
-        }
-        if (personToDelete == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, targetName));
-        }
+        Person personToDelete = model.findPersonByName(targetName)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        String.format(MESSAGE_PERSON_NOT_FOUND, targetName),
+                        model.suggestPersonsByName(targetName))));
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, targetName));
     }
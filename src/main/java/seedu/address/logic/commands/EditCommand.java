@@ -10,13 +10,13 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
@@ -73,17 +73,9 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> contactList = model.getFilteredPersonList();
-        Person personToEdit = null;
-        for (Person person : contactList) {
-            if (person.getName().fullName.equalsIgnoreCase(name)) {
-                personToEdit = person;
-                break;
-            }
-        }
-        if (personToEdit == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name));
-        }
+        Person personToEdit = model.findPersonByName(name)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        String.format(MESSAGE_PERSON_NOT_FOUND, name), model.suggestPersonsByName(name))));
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
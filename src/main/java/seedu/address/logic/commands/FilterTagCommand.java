@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagExpressionPredicate;
+
+/**
+ * Finds and lists all persons in address book whose tags satisfy a tag expression.
+ */
+public class FilterTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter-tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags match the given "
+            + "tags joined by AND and OR, where AND is applied before OR, and displays them as a list.\n"
+            + "Parameters: t/TAG [AND|OR t/TAG]...\n"
+            + "Example: " + COMMAND_WORD + " t/investor AND t/fintech OR t/founder";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d %2$s with matching tags";
+
+    public static final String MESSAGE_NO_CONTACTS_FOUND = "Oops! No contacts found with matching tags.";
+
+    private final TagExpressionPredicate predicate;
+
+    public FilterTagCommand(TagExpressionPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        int numContacts = model.getFilteredPersonList().size();
+        if (numContacts == 0) {
+            return new CommandResult(MESSAGE_NO_CONTACTS_FOUND);
+        }
+        String contactOrContacts = (numContacts == 1) ? "contact" : "contacts";
+        return new CommandResult(String.format(MESSAGE_SUCCESS, numContacts, contactOrContacts));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterTagCommand)) {
+            return false;
+        }
+
+        FilterTagCommand otherFilterTagCommand = (FilterTagCommand) other;
+        return predicate.equals(otherFilterTagCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
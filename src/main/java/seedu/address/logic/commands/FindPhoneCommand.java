@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+/**
+ * Finds and lists all persons in address book whose phone number is, or starts with, the given digits.
+ */
+public class FindPhoneCommand extends Command {
+
+    public static final String COMMAND_WORD = "findphone";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose phone number is, or starts "
+            + "with, the specified digits and displays them as a list with index numbers.\n"
+            + "Parameters: PHONE_NUMBER_OR_PREFIX\n"
+            + "Example: " + COMMAND_WORD + " 6516";
+
+    public static final String MESSAGE_FIND_PHONE_SUCCESS = "Found %1$d %2$s with phone numbers starting with %3$s.";
+
+    private final PhonePrefixPredicate predicate;
+    private final String prefix;
+
+    /**
+     * Creates a FindPhoneCommand to find the contacts whose phone numbers start with {@code prefix}.
+     */
+    public FindPhoneCommand(String prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+        this.predicate = new PhonePrefixPredicate(prefix);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        int numContacts = model.getFilteredPersonList().size();
+        String contactOrContacts = (numContacts == 1) ? "contact" : "contacts";
+        return new CommandResult(String.format(MESSAGE_FIND_PHONE_SUCCESS, numContacts, contactOrContacts, prefix));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindPhoneCommand)) {
+            return false;
+        }
+
+        FindPhoneCommand otherFindPhoneCommand = (FindPhoneCommand) other;
+        return prefix.equals(otherFindPhoneCommand.prefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("prefix", prefix)
+                .toString();
+    }
+}
@@ -4,8 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -60,18 +59,9 @@ public class PriorityCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_NAME);
         }
 
-        List<Person> contactList = model.getFilteredPersonList();
-        Person personToEdit = null;
-
-        for (Person person : contactList) {
-            if (person.getName().fullName.equalsIgnoreCase(name)) {
-                personToEdit = person;
-                break;
-            }
-        }
-        if (personToEdit == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name));
-        }
+        Person personToEdit = model.findPersonByName(name)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        String.format(MESSAGE_PERSON_NOT_FOUND, name), model.suggestPersonsByName(name))));
 
         if (!priority.hasPriority() && !personToEdit.getPriority().hasPriority()) {
             throw new CommandException(String.format(MESSAGE_DELETE_PRIORITY_FAILURE, name));
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPredicate;
+
+/**
+ * Finds and lists all persons in address book who satisfy a query, or explains how the query would be run.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts who satisfy the conditions given, "
+            + "joined by AND, OR and NOT and grouped with brackets, and displays them as a list with index numbers. "
+            + "Starting with explain shows how the query would be run instead.\n"
+            + "Conditions: name:WORD company:WORD phone:DIGITS email:TEXT tag:TAG priority:high|med|none "
+            + "starred:yes|no meeting:DATE|DATE..DATE|any\n"
+            + "Parameters: [explain] CONDITION [AND|OR CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " tag:investor AND (company:google OR priority:high) AND NOT starred:yes";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d %2$s matching the query.";
+    public static final String MESSAGE_EXPLAIN = "Query plan (estimated cost %1$d):\n%2$s";
+
+    private final Query query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand to find the contacts satisfying {@code query}, or to explain how it would be run if
+     * {@code isExplain} is true.
+     */
+    public QueryCommand(Query query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isExplain) {
+            QueryPlan plan = model.planQuery(query);
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, plan.getEstimatedCost(), plan.describe()));
+        }
+
+        model.updateFilteredPersonList(new QueryPredicate(query));
+        int numContacts = model.getFilteredPersonList().size();
+        String contactOrContacts = (numContacts == 1) ? "contact" : "contacts";
+        return new CommandResult(String.format(MESSAGE_SUCCESS, numContacts, contactOrContacts));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query) && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
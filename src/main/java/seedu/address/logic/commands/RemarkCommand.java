@@ -3,8 +3,7 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -48,19 +47,9 @@ public class RemarkCommand extends Command {
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        List<Person> contactList = model.getFilteredPersonList();
-        Person personToEdit = null;
-        for (Person person : contactList) {
-            if (person.getName().fullName.equalsIgnoreCase(name)) {
-                personToEdit = person;
-                break;
-            }
-        }
-        if (personToEdit == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name));
-        }
+        Person personToEdit = model.findPersonByName(name)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        String.format(MESSAGE_PERSON_NOT_FOUND, name), model.suggestPersonsByName(name))));
         if (!remark.hasRemark()) {
             if (personToEdit.getRemark().hasRemark()) {
                 message = MESSAGE_DELETE_REMARK_SUCCESS;
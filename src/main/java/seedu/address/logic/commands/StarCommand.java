@@ -2,9 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -34,29 +33,18 @@ public class StarCommand extends Command {
         requireNonNull(model);
 
         // Find the person by name
-        List<Person> personsFound = model.getFilteredPersonList();
-        Person contactToStar = null;
-        for (Person person : personsFound) {
-            if (person.getName().fullName.equalsIgnoreCase(contactName)) {
-                contactToStar = person;
-                break;
-            }
-        }
-
-        if (contactToStar == null) {
-            throw new CommandException("Error! Contact not found: " + contactName);
-        }
+        Person contactToStar = model.findPersonByName(contactName)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        "Error! Contact not found: " + contactName, model.suggestPersonsByName(contactName))));
 
         if (contactToStar.isStarred()) {
             throw new CommandException("Error! Contact is already starred: " + contactName);
         }
 
         // Star the contact
-        contactToStar.starContact();
-
         Person starredContact = new Person(contactToStar.getName(), contactToStar.getPhone(), contactToStar.getEmail(),
                 contactToStar.getAddress(), contactToStar.getCompany(), contactToStar.getMeeting(),
-                contactToStar.getPriority(), contactToStar.isStarred(),
+                contactToStar.getPriority(), true,
                 contactToStar.getRemark(), contactToStar.getTags());
 
         model.setPerson(contactToStar, starredContact);
@@ -2,9 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -34,28 +33,18 @@ public class UnstarCommand extends Command {
         requireNonNull(model);
 
         // Find the person by name
-        List<Person> personsFound = model.getFilteredPersonList();
-        Person contactToUnstar = null;
-        for (Person person : personsFound) {
-            if (person.getName().fullName.equalsIgnoreCase(contactName)) {
-                contactToUnstar = person;
-                break;
-            }
-        }
-
-        if (contactToUnstar == null) {
-            throw new CommandException("Error! Contact not found: " + contactName);
-        }
+        Person contactToUnstar = model.findPersonByName(contactName)
+                .orElseThrow(() -> new CommandException(Messages.withNameSuggestions(
+                        "Error! Contact not found: " + contactName, model.suggestPersonsByName(contactName))));
 
         if (!contactToUnstar.isStarred()) {
             throw new CommandException("Error! Contact is not starred: " + contactName);
         }
 
         // Unstar the contact
-        contactToUnstar.unstarContact();
         Person unstarredContact = new Person(contactToUnstar.getName(), contactToUnstar.getPhone(),
                 contactToUnstar.getEmail(), contactToUnstar.getAddress(), contactToUnstar.getCompany(),
-                contactToUnstar.getMeeting(), contactToUnstar.getPriority(), contactToUnstar.isStarred(),
+                contactToUnstar.getMeeting(), contactToUnstar.getPriority(), false,
                 contactToUnstar.getRemark(), contactToUnstar.getTags());
 
         model.setPerson(contactToUnstar, unstarredContact);
@@ -2,7 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonFlag;
+import seedu.address.model.person.PersonFlagsPredicate;
 
 /**
  * Finds and lists all contacts with meetings in address book.
@@ -22,7 +26,7 @@ public class ViewMeetingCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(person -> !person.getMeeting().toString().equals(""));
+        model.updateFilteredPersonList(new PersonFlagsPredicate(List.of(PersonFlag.HAS_MEETING)));
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(MESSAGE_NO_CONTACTS_FOUND);
         }
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CompanyCommand;
@@ -19,11 +20,14 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterHighPriorityCommand;
 import seedu.address.logic.commands.FilterMedPriorityCommand;
+import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCompanyCommand;
+import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PriorityCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.StarCommand;
 import seedu.address.logic.commands.UnstarCommand;
@@ -82,12 +86,21 @@ public class AddressBookParser {
         case FilterMedPriorityCommand.COMMAND_WORD:
             return new FilterMedPriorityCommand();
 
+        case FilterTagCommand.COMMAND_WORD:
+            return new FilterTagCommandParser().parse(arguments);
+
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
         case FindCompanyCommand.COMMAND_WORD:
             return new FindCompanyCommandParser().parse(arguments);
 
+        case FindPhoneCommand.COMMAND_WORD:
+            return new FindPhoneCommandParser().parse(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case CompanyCommand.COMMAND_WORD:
             return new CompanyCommandParser().parse(arguments);
 
@@ -106,6 +119,9 @@ public class AddressBookParser {
         case ViewMeetingCommand.COMMAND_WORD:
             return new ViewMeetingCommand();
 
+        case AgendaCommand.COMMAND_WORD:
+            return new AgendaCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
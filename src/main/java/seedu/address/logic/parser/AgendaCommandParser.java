@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new AgendaCommand();
+        }
+
+        String[] dates = trimmedArgs.split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+        try {
+            LocalDate from = ParserUtil.parseDate(dates[0]);
+            LocalDate to = ParserUtil.parseDate(dates[1]);
+            if (from.isAfter(to)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+            }
+            return new AgendaCommand(from, to);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -26,7 +26,7 @@ public class CompanyCommandParser implements Parser<CompanyCommand> {
 
         String company = argMultimap.getValue(PREFIX_COMPANY).orElse("");
 
-        return new CompanyCommand(contactName, new Company(company));
+        return new CompanyCommand(contactName, Company.of(company));
     }
 
 }
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FilterTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterTagCommand object
+ */
+public class FilterTagCommandParser implements Parser<FilterTagCommand> {
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterTagCommand
+     * and returns a FilterTagCommand object for execution.
+     * Operators are case-insensitive, and AND is applied before OR.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterTagCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+        }
+
+        String[] tokens = trimmedArgs.split("\\s+");
+        if (tokens.length % 2 == 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+        }
+
+        List<Set<Tag>> clauses = new ArrayList<>();
+        Set<Tag> clause = new HashSet<>();
+        clause.add(parseTagToken(tokens[0]));
+        for (int i = 1; i < tokens.length; i += 2) {
+            if (tokens[i].equalsIgnoreCase(OPERATOR_OR)) {
+                clauses.add(clause);
+                clause = new HashSet<>();
+            } else if (!tokens[i].equalsIgnoreCase(OPERATOR_AND)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+            }
+            clause.add(parseTagToken(tokens[i + 1]));
+        }
+        clauses.add(clause);
+
+        return new FilterTagCommand(new TagExpressionPredicate(clauses));
+    }
+
+    /**
+     * Parses a {@code token} of the form {@code t/TAG} into a {@code Tag}.
+     */
+    private static Tag parseTagToken(String token) throws ParseException {
+        if (!token.startsWith(PREFIX_TAG.getPrefix())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+        }
+        return ParserUtil.parseTag(token.substring(PREFIX_TAG.getPrefix().length()));
+    }
+}
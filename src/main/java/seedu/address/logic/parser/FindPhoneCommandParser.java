@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindPhoneCommand object
+ */
+public class FindPhoneCommandParser implements Parser<FindPhoneCommand> {
+
+    private static final String DIGITS_REGEX = "\\d+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindPhoneCommand
+     * and returns a FindPhoneCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindPhoneCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches(DIGITS_REGEX)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+        }
+
+        return new FindPhoneCommand(trimmedArgs);
+    }
+}
@@ -27,6 +27,6 @@ public class PriorityCommandParser implements Parser<PriorityCommand> {
             throw new ParseException(String.format(
                     Messages.MESSAGE_INVALID_COMMAND_FORMAT, PriorityCommand.MESSAGE_USAGE));
         }
-        return new PriorityCommand(trimmedArgs, new Priority(priority));
+        return new PriorityCommand(trimmedArgs, Priority.of(priority));
     }
 }
@@ -0,0 +1,215 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.CompanyContainsKeywordsPredicate;
+import seedu.address.model.person.EmailContainsPredicate;
+import seedu.address.model.person.MeetingBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFlag;
+import seedu.address.model.person.PersonFlagsPredicate;
+import seedu.address.model.person.PersonWithoutFlagsPredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+    private static final String KEYWORD_EXPLAIN = "explain";
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final String DATE_RANGE_SEPARATOR = "..";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * Operators are case-insensitive, NOT is applied before AND, and AND before OR.
+     * Conditions next to each other without an operator are joined by AND.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        ParseState state = new ParseState(args);
+        boolean isExplain = state.nextTokenIs(KEYWORD_EXPLAIN);
+        if (isExplain) {
+            state.position++;
+        }
+        Query query = parseOr(state);
+        if (state.hasNextToken()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query, isExplain);
+    }
+
+    private static Query parseOr(ParseState state) throws ParseException {
+        List<Query> children = new ArrayList<>();
+        children.add(parseAnd(state));
+        while (state.nextTokenIs(OPERATOR_OR)) {
+            state.position++;
+            children.add(parseAnd(state));
+        }
+        return children.size() == 1 ? children.get(0) : new Query.Or(children);
+    }
+
+    private static Query parseAnd(ParseState state) throws ParseException {
+        List<Query> children = new ArrayList<>();
+        children.add(parseNot(state));
+        while (state.hasNextToken() && !state.nextTokenIs(OPERATOR_OR) && !state.nextTokenIs(CLOSE_BRACKET)) {
+            if (state.nextTokenIs(OPERATOR_AND)) {
+                state.position++;
+            }
+            children.add(parseNot(state));
+        }
+        return children.size() == 1 ? children.get(0) : new Query.And(children);
+    }
+
+    private static Query parseNot(ParseState state) throws ParseException {
+        if (state.nextTokenIs(OPERATOR_NOT)) {
+            state.position++;
+            return new Query.Not(parseNot(state));
+        }
+        if (state.nextTokenIs(OPEN_BRACKET)) {
+            state.position++;
+            Query query = parseOr(state);
+            if (!state.nextTokenIs(CLOSE_BRACKET)) {
+                throw invalidFormat();
+            }
+            state.position++;
+            return query;
+        }
+        if (!state.hasNextToken()) {
+            throw invalidFormat();
+        }
+        return parseCondition(state.tokens.get(state.position++));
+    }
+
+    /**
+     * Parses a {@code token} of the form {@code FIELD:VALUE} into a condition on that field.
+     */
+    private static Query parseCondition(String token) throws ParseException {
+        int separatorIndex = token.indexOf(FIELD_SEPARATOR);
+        if (separatorIndex < 0 || separatorIndex == token.length() - 1) {
+            throw invalidFormat();
+        }
+        String field = token.substring(0, separatorIndex).toLowerCase(Locale.ROOT);
+        String value = token.substring(separatorIndex + 1);
+        String label = field + FIELD_SEPARATOR + value;
+
+        switch (field) {
+        case "name":
+            return new Query.Field(label, new NameContainsKeywordsPredicate(List.of(value)));
+        case "company":
+            return new Query.Field(label, new CompanyContainsKeywordsPredicate(List.of(value)));
+        case "phone":
+            if (!value.matches("\\d+")) {
+                throw invalidFormat();
+            }
+            return new Query.Field(label, new PhonePrefixPredicate(value));
+        case "email":
+            return new Query.Field(label, new EmailContainsPredicate(value));
+        case "tag":
+            Tag tag = ParserUtil.parseTag(value);
+            return new Query.Field(label, new TagExpressionPredicate(List.of(Set.of(tag))));
+        case "priority":
+            return parsePriorityCondition(label, value.toLowerCase(Locale.ROOT));
+        case "starred":
+            return parseStarredCondition(label, value.toLowerCase(Locale.ROOT));
+        case "meeting":
+            return parseMeetingCondition(label, value.toLowerCase(Locale.ROOT));
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private static Query parsePriorityCondition(String label, String value) throws ParseException {
+        switch (value) {
+        case "high":
+            return new Query.Field(label, new PersonFlagsPredicate(List.of(PersonFlag.HIGH_PRIORITY)));
+        case "med":
+            return new Query.Field(label, new PersonFlagsPredicate(List.of(PersonFlag.MED_PRIORITY)));
+        case "none":
+            return new Query.Field(label,
+                    new PersonWithoutFlagsPredicate(List.of(PersonFlag.HIGH_PRIORITY, PersonFlag.MED_PRIORITY)));
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private static Query parseStarredCondition(String label, String value) throws ParseException {
+        switch (value) {
+        case "yes":
+            return new Query.Field(label, new PersonFlagsPredicate(List.of(PersonFlag.STARRED)));
+        case "no":
+            return new Query.Field(label, new PersonWithoutFlagsPredicate(List.of(PersonFlag.STARRED)));
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private static Query parseMeetingCondition(String label, String value) throws ParseException {
+        if (value.equals("any")) {
+            return new Query.Field(label, new PersonFlagsPredicate(List.of(PersonFlag.HAS_MEETING)));
+        }
+
+        int separatorIndex = value.indexOf(DATE_RANGE_SEPARATOR);
+        try {
+            LocalDate from = ParserUtil.parseDate(separatorIndex < 0 ? value : value.substring(0, separatorIndex));
+            LocalDate to = separatorIndex < 0
+                    ? from
+                    : ParserUtil.parseDate(value.substring(separatorIndex + DATE_RANGE_SEPARATOR.length()));
+            if (from.isAfter(to)) {
+                throw invalidFormat();
+            }
+            return new Query.Field(label, new MeetingBetweenPredicate(from, to));
+        } catch (DateTimeParseException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The tokens of the arguments being parsed and the position of the next token, created for each call to
+     * {@link #parse(String)} so that the parser itself holds no state.
+     */
+    private static class ParseState {
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+
+        ParseState(String args) {
+            Matcher matcher = TOKEN_FORMAT.matcher(args);
+            while (matcher.find()) {
+                tokens.add(matcher.group());
+            }
+        }
+
+        boolean hasNextToken() {
+            return position < tokens.size();
+        }
+
+        boolean nextTokenIs(String expected) {
+            return hasNextToken() && tokens.get(position).equalsIgnoreCase(expected);
+        }
+    }
+}
@@ -2,20 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, MutableAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +55,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -57,20 +67,83 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Applies {@code changes} to this address book as a whole. The changes are first gathered in a batch over the
+     * person list, so if {@code changes} throws an exception, the address book is left as it was. Only the persons
+     * changed are then reindexed, listeners of the person list are told of a single change, and the modification
+     * count goes up once, however many persons were changed.
+     */
+    public void batch(Consumer<MutableAddressBook> changes) {
+        requireNonNull(changes);
+        AddressBookBatch batch = new AddressBookBatch(persons);
+        changes.accept(batch);
+        if (!batch.hasChanges()) {
+            return;
+        }
+
+        batch.apply();
+        modificationCount++;
+    }
+
     //// person-level operations
 
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
+    @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        int count = 0;
-        for (Person p : persons) {
-            if (p.getName().fullName.equalsIgnoreCase(person.getName().fullName)) {
-                count++;
-            }
-        }
-        return (count != 0);
+        return persons.contains(person);
+    }
+
+    /**
+     * Returns the person whose name matches {@code name}, ignoring case, if such a person exists in the address book.
+     */
+    @Override
+    public Optional<Person> findPersonByName(String name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns the persons whose names are within {@code maxDistance} edits of {@code name}, ignoring case, closest
+     * first.
+     */
+    public List<Person> findPersonsWithNameWithin(String name, int maxDistance) {
+        requireNonNull(name);
+        return persons.findByNameWithin(name, maxDistance);
+    }
+
+    /**
+     * Returns a predicate that holds for the same persons of the address book as {@code predicate}, but looks up its
+     * matches in the indexes of the address book where it can.
+     */
+    public Predicate<Person> withIndexes(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return persons.withIndexes(predicate);
+    }
+
+    /**
+     * Returns the persons with meetings on dates from {@code from} to {@code to} inclusive, in the order of their
+     * meetings.
+     */
+    public List<Person> findMeetingsBetween(LocalDate from, LocalDate to) {
+        return persons.findMeetingsBetween(from, to);
+    }
+
+    /**
+     * Returns the persons with meetings that overlap {@code meeting}, in the order of their meetings.
+     */
+    public List<Person> findMeetingsOverlapping(Meeting meeting) {
+        return persons.findMeetingsOverlapping(meeting);
+    }
+
+    /**
+     * Returns the plan that finds the persons satisfying {@code query}, using the indexes of the address book where
+     * it can.
+     */
+    public QueryPlan planQuery(Query query) {
+        return QueryPlanner.plan(query, persons);
     }
 
     /**
@@ -78,26 +151,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasSimilarPerson(Person person) {
         requireNonNull(person);
-
-        // Remove spaces from the name
-        String name = person.getName().fullName.replaceAll("\\s", "").toLowerCase();
-
-        for (Person p : persons) {
-            // Remove spaces from the existing contact names for comparison
-            String existingName = p.getName().fullName.replaceAll("\\s", "").toLowerCase();
-            if (existingName.equals(name)) {
-                return true;
-            }
-        }
-        return false;
+        return persons.containsSimilar(person);
     }
 
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
+    @Override
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -105,18 +169,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
+    @Override
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
+    @Override
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// util methods
@@ -133,6 +201,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A batch of changes to the persons of an address book, checked as they are made but only applied to the address
+ * book once the batch is done.
+ *
+ * Nothing is copied from the address book: the batch is an overlay of the persons added, removed and edited over
+ * the live list, from lower-cased name to the person now under that name, or to nothing if that person was removed.
+ * Lookups go to the overlay first and then to the live list, so each change takes constant time and creating a batch
+ * takes none, however large the address book. The same rules as in {@code UniquePersonList} apply: persons are
+ * unique by name, ignoring case, and a person to replace or remove must be equal to the one in the address book.
+ */
+class AddressBookBatch implements MutableAddressBook {
+
+    private final UniquePersonList persons;
+    private final Map<String, Optional<Person>> overlay = new HashMap<>();
+    private final List<Person> removals = new ArrayList<>();
+    private final Map<Person, Person> edits = new IdentityHashMap<>();
+    private final Map<Person, Person> editedFrom = new IdentityHashMap<>();
+    private final List<Person> additions = new ArrayList<>();
+    private final Set<Person> added = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates an empty batch of changes to {@code persons}, which must not change until the batch is applied.
+     */
+    AddressBookBatch(UniquePersonList persons) {
+        this.persons = requireNonNull(persons);
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return lookUp(toNameKey(person)).isPresent();
+    }
+
+    @Override
+    public Optional<Person> findPersonByName(String name) {
+        requireNonNull(name);
+        return lookUp(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        if (hasPerson(person)) {
+            throw new DuplicatePersonException();
+        }
+        overlay.put(toNameKey(person), Optional.of(person));
+        additions.add(person);
+        added.add(person);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Person current = findCurrent(target);
+        if (!target.isSamePerson(editedPerson) && hasPerson(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        overlay.put(toNameKey(current), Optional.empty());
+        overlay.put(toNameKey(editedPerson), Optional.of(editedPerson));
+        if (added.remove(current)) {
+            additions.set(indexOfSame(additions, current), editedPerson);
+            added.add(editedPerson);
+        } else {
+            Person stored = editedFrom.containsKey(current) ? editedFrom.remove(current) : current;
+            edits.put(stored, editedPerson);
+            editedFrom.put(editedPerson, stored);
+        }
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        requireNonNull(key);
+        Person current = findCurrent(key);
+        overlay.put(toNameKey(current), Optional.empty());
+        if (added.remove(current)) {
+            additions.remove(indexOfSame(additions, current));
+        } else {
+            Person stored = editedFrom.containsKey(current) ? editedFrom.remove(current) : current;
+            edits.remove(stored);
+            removals.add(stored);
+        }
+    }
+
+    /**
+     * Returns true if applying the batch would change the address book.
+     */
+    boolean hasChanges() {
+        return !removals.isEmpty() || !edits.isEmpty() || !additions.isEmpty();
+    }
+
+    /**
+     * Applies the changes to the live list in one go, so that only the persons changed are reindexed.
+     */
+    void apply() {
+        persons.applyChanges(removals, edits, additions);
+    }
+
+    /**
+     * Returns the person under {@code nameKey} after the changes so far.
+     */
+    private Optional<Person> lookUp(String nameKey) {
+        Optional<Person> changed = overlay.get(nameKey);
+        return changed != null ? changed : persons.findByName(nameKey);
+    }
+
+    /**
+     * Returns the person, after the changes so far, that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person findCurrent(Person person) {
+        return lookUp(toNameKey(person)).filter(person::equals).orElseThrow(PersonNotFoundException::new);
+    }
+
+    private static int indexOfSame(List<Person> persons, Person person) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String toNameKey(Person person) {
+        return person.getName().getLowerCaseName();
+    }
+}
@@ -0,0 +1,466 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.commons.core.Config;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of the persons in a source list that satisfy a predicate, like {@code FilteredList}, but which does as
+ * little work as it can to keep up with changes.
+ *
+ * Setting a predicate equal to the current one does nothing, and a predicate known to refine the current one is only
+ * tested against the persons already in the view. When the source list changes, only the persons that were added or
+ * replaced are tested. Listeners are told of the persons that enter or leave the view, instead of the whole view
+ * being replaced.
+ *
+ * The view mirrors the source list in a treap of its persons, each marked if it is in the view. Each node keeps the
+ * number of persons and of marked persons in its subtree, so a position in the source list and a position in the view
+ * are both found from the root in logarithmic time, and a change to the source list only touches the nodes of the
+ * persons changed and their ancestors. Large lists are tested in parallel when the predicate changes, and the persons
+ * that enter or leave the view are only published once all are tested.
+ */
+class FilteredPersonList extends TransformationList<Person, Person> {
+
+    /** Number of persons tested together by one task when testing in parallel. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final int parallelThreshold;
+    private final Random random = new Random();
+    private Predicate<? super Person> predicate;
+    private Node root;
+
+    /**
+     * Creates a view of the persons in {@code source} that satisfy {@code predicate}, which tests persons in parallel
+     * whenever there are at least {@link Config#DEFAULT_FILTER_PARALLEL_THRESHOLD} of them to test.
+     */
+    FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        this(source, predicate, Config.DEFAULT_FILTER_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a view of the persons in {@code source} that satisfy {@code predicate}, which tests persons in parallel
+     * whenever there are at least {@code parallelThreshold} of them to test.
+     */
+    FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate, int parallelThreshold) {
+        super(source);
+        requireNonNull(predicate);
+        checkArgument(parallelThreshold > 0, "Parallel threshold must be positive");
+        this.parallelThreshold = parallelThreshold;
+        this.predicate = predicate;
+        List<Node> nodes = new ArrayList<>(source.size());
+        source.forEach(person -> nodes.add(new Node(person, random.nextInt())));
+        boolean[] isInView = test(predicate, nodes);
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).isInView = isInView[i];
+        }
+        root = build(nodes);
+    }
+
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}.
+     * Nothing is tested if {@code predicate} is equal to the current predicate.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate.equals(this.predicate)) {
+            return;
+        }
+
+        this.predicate = predicate;
+        List<Node> nodes = new ArrayList<>(size(root));
+        collect(root, false, nodes);
+        show(nodes, test(predicate, nodes), false);
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, which the caller knows can only hold for
+     * persons that satisfy the current predicate, so only the persons already in the view are tested.
+     */
+    public void refinePredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate.equals(this.predicate)) {
+            return;
+        }
+
+        this.predicate = predicate;
+        List<Node> nodes = new ArrayList<>(size());
+        collect(root, true, nodes);
+        show(nodes, test(predicate, nodes), true);
+    }
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, size());
+        return nodeInView(index).person;
+    }
+
+    @Override
+    public int size() {
+        return countInView(root);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        int sourceIndex = 0;
+        Node node = root;
+        while (true) {
+            int leftCount = countInView(node.left);
+            if (index < leftCount) {
+                node = node.left;
+            } else if (index == leftCount && node.isInView) {
+                return sourceIndex + size(node.left);
+            } else {
+                index -= leftCount + (node.isInView ? 1 : 0);
+                sourceIndex += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= size(root)) {
+            return -1;
+        }
+        int viewIndex = 0;
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.isInView ? viewIndex + countInView(node.left) : -1;
+            } else {
+                index -= leftSize + 1;
+                viewIndex += countInView(node.left) + (node.isInView ? 1 : 0);
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    update(i);
+                }
+            } else {
+                replace(change.getFrom(), change.getRemovedSize(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns, for each of {@code nodes} in order, whether its person satisfies {@code predicate}.
+     *
+     * If there are at least {@code parallelThreshold} nodes, they are split into chunks that are tested in parallel
+     * on the common fork-join pool. The predicate must then be safe to test from several threads at once.
+     */
+    private boolean[] test(Predicate<? super Person> predicate, List<Node> nodes) {
+        int count = nodes.size();
+        boolean[] results = new boolean[count];
+        if (count < parallelThreshold) {
+            testChunk(predicate, nodes, 0, count, results);
+            return results;
+        }
+
+        // Test the first person on this thread, so that a predicate that prepares itself on first use, such as one
+        // backed by indexes, does so only once
+        predicate.test(nodes.get(0).person);
+
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> testChunk(predicate, nodes, chunk * CHUNK_SIZE,
+                Math.min(count, (chunk + 1) * CHUNK_SIZE), results));
+        return results;
+    }
+
+    private static void testChunk(Predicate<? super Person> predicate, List<Node> nodes, int from, int to,
+            boolean[] results) {
+        for (int i = from; i < to; i++) {
+            results[i] = predicate.test(nodes.get(i).person);
+        }
+    }
+
+    /**
+     * Puts each of {@code nodes}, given in order, in the view or takes it out as {@code isInView} says, telling
+     * listeners of each person that leaves or enters the view. The nodes must include every node in the view, and
+     * all other nodes too unless {@code inViewOnly}.
+     */
+    private void show(List<Node> nodes, boolean[] isInView, boolean inViewOnly) {
+        beginChange();
+        int viewIndex = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            if (node.isInView && !isInView[i]) {
+                nextRemove(viewIndex, node.person);
+            } else if (!node.isInView && isInView[i]) {
+                nextAdd(viewIndex, viewIndex + 1);
+                viewIndex++;
+            } else if (node.isInView) {
+                viewIndex++;
+            }
+            node.isInView = isInView[i];
+        }
+        recount(root, inViewOnly);
+        endChange();
+    }
+
+    /**
+     * Takes the {@code removedSize} persons at {@code from} of the mirrored source list out, and puts in the persons
+     * added to the source list from {@code from} to {@code to} exclusive, testing only those.
+     */
+    private void replace(int from, int removedSize, int to) {
+        Node[] leftAndRest = split(root, from);
+        Node[] removedAndRight = split(leftAndRest[1], removedSize);
+        int viewFrom = countInView(leftAndRest[0]);
+
+        if (countInView(removedAndRight[0]) > 0) {
+            List<Node> removed = new ArrayList<>();
+            collect(removedAndRight[0], true, removed);
+            List<Person> removedFromView = new ArrayList<>(removed.size());
+            removed.forEach(node -> removedFromView.add(node.person));
+            nextRemove(viewFrom, removedFromView);
+        }
+
+        List<Node> added = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Node node = new Node(getSource().get(i), random.nextInt());
+            node.isInView = predicate.test(node.person);
+            added.add(node);
+        }
+        Node addedTree = build(added);
+        if (countInView(addedTree) > 0) {
+            nextAdd(viewFrom, viewFrom + countInView(addedTree));
+        }
+
+        root = merge(merge(leftAndRest[0], addedTree), removedAndRight[1]);
+    }
+
+    /**
+     * Tests the person at {@code sourceIndex} of the source list again, after it was updated in place.
+     */
+    private void update(int sourceIndex) {
+        Deque<Node> path = new ArrayDeque<>();
+        int viewIndex = 0;
+        int index = sourceIndex;
+        Node node = root;
+        while (index != size(node.left)) {
+            path.push(node);
+            if (index < size(node.left)) {
+                node = node.left;
+            } else {
+                index -= size(node.left) + 1;
+                viewIndex += countInView(node.left) + (node.isInView ? 1 : 0);
+                node = node.right;
+            }
+        }
+        viewIndex += countInView(node.left);
+
+        boolean wasInView = node.isInView;
+        node.isInView = predicate.test(node.person);
+        if (wasInView && node.isInView) {
+            nextUpdate(viewIndex);
+        } else if (wasInView) {
+            nextRemove(viewIndex, node.person);
+        } else if (node.isInView) {
+            nextAdd(viewIndex, viewIndex + 1);
+        }
+
+        node.recount();
+        path.forEach(Node::recount);
+    }
+
+    /**
+     * Moves the persons to their new positions after the source list was reordered. Their order in the view changes
+     * with them, so listeners are told that the persons in the view within the reordered range were replaced.
+     */
+    private void permute(Change<? extends Person> change) {
+        int from = change.getFrom();
+        Node[] leftAndRest = split(root, from);
+        Node[] permutedAndRight = split(leftAndRest[1], change.getTo() - from);
+        int viewFrom = countInView(leftAndRest[0]);
+
+        List<Node> oldNodes = new ArrayList<>(change.getTo() - from);
+        collect(permutedAndRight[0], false, oldNodes);
+        List<Person> oldView = new ArrayList<>();
+        Node[] newNodes = new Node[oldNodes.size()];
+        for (int i = 0; i < oldNodes.size(); i++) {
+            Node node = oldNodes.get(i);
+            if (node.isInView) {
+                oldView.add(node.person);
+            }
+            newNodes[change.getPermutation(from + i) - from] = node;
+        }
+        Node permuted = build(List.of(newNodes));
+        if (!oldView.isEmpty()) {
+            nextReplace(viewFrom, viewFrom + oldView.size(), oldView);
+        }
+
+        root = merge(merge(leftAndRest[0], permuted), permutedAndRight[1]);
+    }
+
+    private Node nodeInView(int index) {
+        Node node = root;
+        while (true) {
+            int leftCount = countInView(node.left);
+            if (index < leftCount) {
+                node = node.left;
+            } else if (index == leftCount && node.isInView) {
+                return node;
+            } else {
+                index -= leftCount + (node.isInView ? 1 : 0);
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Adds the nodes in the subtree at {@code node} to {@code nodes} in order, or only those in the view if
+     * {@code inViewOnly}, without visiting subtrees that have none in the view.
+     */
+    private static void collect(Node node, boolean inViewOnly, List<Node> nodes) {
+        if (node == null || (inViewOnly && node.countInView == 0)) {
+            return;
+        }
+        collect(node.left, inViewOnly, nodes);
+        if (node.isInView || !inViewOnly) {
+            nodes.add(node);
+        }
+        collect(node.right, inViewOnly, nodes);
+    }
+
+    /**
+     * Recounts the persons in the view in the subtree at {@code node}, after the persons in it were tested again.
+     * If {@code inViewOnly}, only persons in the view were tested, so subtrees that had none in the view are skipped.
+     */
+    private static void recount(Node node, boolean inViewOnly) {
+        if (node == null || (inViewOnly && node.countInView == 0)) {
+            return;
+        }
+        recount(node.left, inViewOnly);
+        recount(node.right, inViewOnly);
+        node.recount();
+    }
+
+    /**
+     * Returns a treap of {@code nodes} in order, built in linear time from their priorities.
+     */
+    private static Node build(List<Node> nodes) {
+        Deque<Node> rightSpine = new ArrayDeque<>();
+        for (Node node : nodes) {
+            node.left = null;
+            node.right = null;
+            Node last = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                last = rightSpine.pop();
+                last.recount();
+            }
+            node.left = last;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+        }
+        Node root = null;
+        while (!rightSpine.isEmpty()) {
+            root = rightSpine.pop();
+            root.recount();
+        }
+        return root;
+    }
+
+    /**
+     * Splits the treap at {@code node} into the treaps of its first {@code count} nodes and of the rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (count <= size(node.left)) {
+            Node[] parts = split(node.left, count);
+            node.left = parts[1];
+            node.recount();
+            return new Node[] {parts[0], node};
+        }
+        Node[] parts = split(node.right, count - size(node.left) - 1);
+        node.right = parts[0];
+        node.recount();
+        return new Node[] {node, parts[1]};
+    }
+
+    /**
+     * Returns the treap of the nodes of {@code left} followed by those of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.recount();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.recount();
+        return right;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int countInView(Node node) {
+        return node == null ? 0 : node.countInView;
+    }
+
+    /**
+     * A person of the source list, whether it is in the view, and the counts of its subtree.
+     */
+    private static class Node {
+        private final Person person;
+        private final int priority;
+        private boolean isInView;
+        private Node left;
+        private Node right;
+        private int size;
+        private int countInView;
+
+        Node(Person person, int priority) {
+            this.person = person;
+            this.priority = priority;
+        }
+
+        void recount() {
+            size = FilteredPersonList.size(left) + 1 + FilteredPersonList.size(right);
+            countInView = FilteredPersonList.countInView(left) + (isInView ? 1 : 0)
+                    + FilteredPersonList.countInView(right);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -56,11 +63,42 @@ public interface Model {
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
+
+    /**
+     * Returns the person in the filtered person list whose name matches {@code name}, ignoring case.
+     * Returns {@code Optional.empty()} if there is no such person, or if the person is hidden by the current filter.
+     */
+    Optional<Person> findPersonByName(String name);
+
+    /**
+     * Returns the persons in the filtered person list whose names are close to {@code name}, allowing for a few typos,
+     * closest first. At most a few persons are returned, as suggestions when no person is named {@code name}.
+     */
+    List<Person> suggestPersonsByName(String name);
+
     /**
      * Returns true if a person with a similar contact name as {@code person} exists in the address book.
      */
     boolean hasSimilarPerson(Person person);
 
+    /**
+     * Returns the persons with meetings on dates from {@code from} to {@code to} inclusive, in the order of their
+     * meetings. Persons hidden by the current filter are included.
+     */
+    List<Person> getMeetingsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the persons with meetings that overlap {@code meeting}, in the order of their meetings.
+     * Persons hidden by the current filter are included.
+     */
+    List<Person> getMeetingsOverlapping(Meeting meeting);
+
+    /**
+     * Returns the plan that finds the persons satisfying {@code query} over the whole address book, using its indexes
+     * where it can.
+     */
+    QueryPlan planQuery(Query query);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -80,6 +118,13 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies {@code changes} to the address book as a whole: the filtered person list changes once, and the address
+     * book is modified, and so saved, once. If {@code changes} throws an exception, the address book is left as it
+     * was.
+     */
+    void batch(Consumer<MutableAddressBook> changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
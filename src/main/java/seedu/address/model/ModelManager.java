@@ -4,14 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,21 +28,36 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final int MAX_NAME_SUGGESTIONS = 3;
+    private static final int MAX_NAME_SUGGESTION_DISTANCE = 3;
+    private static final int NAME_CHARACTERS_PER_TYPO = 4;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private Predicate<Person> filterPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Config.DEFAULT_FILTER_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose filtered person list tests persons
+     * in parallel whenever there are at least {@code filterParallelThreshold} of them to test.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int filterParallelThreshold) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), filterPredicate,
+                filterParallelThreshold);
     }
 
     public ModelManager() {
@@ -92,12 +116,48 @@ public class ModelManager implements Model {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
+
+    @Override
+    public Optional<Person> findPersonByName(String name) {
+        requireNonNull(name);
+        return addressBook.findPersonByName(name).filter(filteredPersons.getPredicate());
+    }
+
+    @Override
+    public List<Person> suggestPersonsByName(String name) {
+        requireNonNull(name);
+        // Allow about one typo every few characters, so that short names do not match everything
+        int maxDistance = Math.min(MAX_NAME_SUGGESTION_DISTANCE, Math.max(1, name.length() / NAME_CHARACTERS_PER_TYPO));
+        return addressBook.findPersonsWithNameWithin(name, maxDistance).stream()
+                .filter(filteredPersons.getPredicate())
+                .limit(MAX_NAME_SUGGESTIONS)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean hasSimilarPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasSimilarPerson(person);
     }
 
+    @Override
+    public List<Person> getMeetingsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.findMeetingsBetween(from, to);
+    }
+
+    @Override
+    public List<Person> getMeetingsOverlapping(Meeting meeting) {
+        requireNonNull(meeting);
+        return addressBook.findMeetingsOverlapping(meeting);
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return addressBook.planQuery(query);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -116,6 +176,12 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(Consumer<MutableAddressBook> changes) {
+        requireNonNull(changes);
+        addressBook.batch(changes);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -130,7 +196,19 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(filterPredicate)) {
+            // The filtered list already follows every change to the address book
+            return;
+        }
+
+        Predicate<Person> indexedPredicate = addressBook.withIndexes(predicate);
+        if (predicate instanceof IndexedPersonPredicate
+                && ((IndexedPersonPredicate) predicate).refines(filterPredicate)) {
+            filteredPersons.refinePredicate(indexedPredicate);
+        } else {
+            filteredPersons.setPredicate(indexedPredicate);
+        }
+        filterPredicate = predicate;
     }
 
     @Override
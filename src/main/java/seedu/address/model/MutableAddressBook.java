@@ -0,0 +1,42 @@
+package seedu.address.model;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The operations that change the persons of an address book, with the lookups needed to decide on them.
+ *
+ * @see Model#batch(java.util.function.Consumer)
+ */
+public interface MutableAddressBook {
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Returns the person whose name matches {@code name}, ignoring case, if such a person exists in the address book.
+     */
+    Optional<Person> findPersonByName(String name);
+
+    /**
+     * Adds a person to the address book.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} in the address book with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Removes {@code key} from the address book.
+     * {@code key} must exist in the address book.
+     */
+    void removePerson(Person key);
+}
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a count that increases whenever the contents of this address book are modified.
+     * The address book has not changed between two calls that return the same value.
+     */
+    long getModificationCount();
+
 }
@@ -2,13 +2,25 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's company name in the address book.
  * Guarantees: immutable; is always valid.
  */
 public class Company {
+    private static final Interner<String, Company> INTERNER = new Interner<>(Company::new);
+
     public final String value;
 
+    /** The words of {@code value} in lower case, used to match company names by word ignoring case. */
+    private final List<String> lowerCaseWords;
+
     /**
      * Constructs a {@code Company}.
      *
@@ -17,6 +29,32 @@ public class Company {
     public Company(String companyName) {
         requireNonNull(companyName);
         value = companyName;
+        lowerCaseWords = toLowerCaseWords(companyName);
+    }
+
+    /**
+     * Returns the shared {@code Company} named {@code companyName}, so that persons at the same company share one
+     * instance.
+     */
+    public static Company of(String companyName) {
+        return INTERNER.intern(companyName);
+    }
+
+    private static List<String> toLowerCaseWords(String companyName) {
+        List<String> words = new ArrayList<>();
+        for (String word : companyName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return Collections.unmodifiableList(words);
+    }
+
+    /**
+     * Returns the words of the company name in lower case, in order.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
     }
 
     @Override
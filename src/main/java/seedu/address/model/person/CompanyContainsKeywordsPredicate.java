@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,18 +12,62 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Company} matches any of the keywords given.
+ * Matches can also be looked up in the company word index of a {@code UniquePersonList}.
  */
-public class CompanyContainsKeywordsPredicate implements Predicate<Person> {
+public class CompanyContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that holds for persons whose company name has any of {@code keywords} as a word,
+     * ignoring case. Each keyword must be a single word.
+     */
     public CompanyContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsFullWordIgnoreCase(person.getCompany().value, keyword));
+        List<String> lowerCaseWords = person.getCompany().getLowerCaseWords();
+        for (String keyword : lowerCaseKeywords) {
+            if (lowerCaseWords.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : lowerCaseKeywords) {
+            matches.addAll(persons.findByCompanyWord(keyword));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        int estimate = 0;
+        for (String keyword : lowerCaseKeywords) {
+            estimate += persons.findByCompanyWord(keyword).size();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns true if {@code other} also matches company names by keywords, and has every keyword of this predicate.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof CompanyContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        List<String> otherLowerCaseKeywords =
+                Arrays.asList(((CompanyContainsKeywordsPredicate) other).lowerCaseKeywords);
+        return otherLowerCaseKeywords.containsAll(Arrays.asList(lowerCaseKeywords));
     }
 
     @Override
@@ -38,6 +86,11 @@ public class CompanyContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherCompanyContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -33,6 +35,9 @@ public class Email {
 
     public final String value;
 
+    /** {@code value} in lower case, used to match emails ignoring case. */
+    private final String lowerCaseValue;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -42,6 +47,14 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the email address in lower case.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
     }
 
     /**
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} contains the text given, ignoring case.
+ * No index can answer it, so every person is tested.
+ */
+public class EmailContainsPredicate implements Predicate<Person> {
+    private final String lowerCaseText;
+
+    /**
+     * Creates a predicate that holds for persons whose email contains {@code text}, ignoring case.
+     */
+    public EmailContainsPredicate(String text) {
+        requireNonNull(text);
+        this.lowerCaseText = text.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getEmail().getLowerCaseValue().contains(lowerCaseText);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailContainsPredicate)) {
+            return false;
+        }
+
+        EmailContainsPredicate otherEmailContainsPredicate = (EmailContainsPredicate) other;
+        return lowerCaseText.equals(otherEmailContainsPredicate.lowerCaseText);
+    }
+
+    @Override
+    public int hashCode() {
+        return lowerCaseText.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("text", lowerCaseText).toString();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests persons of a {@code UniquePersonList} by looking them up in the matches that an
+ * {@code IndexedPersonPredicate} finds through the indexes of the list.
+ *
+ * The matches are found once, when the predicate is first tested. A person added to the list or edited since then,
+ * which the matches cannot account for, is tested by the {@code IndexedPersonPredicate} itself instead, so a change to
+ * the list costs a single test rather than finding all matches again. The predicate can be tested from several
+ * threads at once, as long as the list is not changed meanwhile.
+ */
+class IndexBackedPredicate implements Predicate<Person> {
+
+    private final IndexedPersonPredicate predicate;
+    private final UniquePersonList persons;
+    private volatile Matches matches;
+
+    IndexBackedPredicate(IndexedPersonPredicate predicate, UniquePersonList persons) {
+        requireAllNonNull(predicate, persons);
+        this.predicate = predicate;
+        this.persons = persons;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Matches currentMatches = matches;
+        if (currentMatches == null) {
+            currentMatches = new Matches(persons.getIndexVersion(), predicate.findMatches(persons));
+            matches = currentMatches;
+        }
+        if (persons.isIndexedAfter(person, currentMatches.version)) {
+            return predicate.test(person);
+        }
+        return currentMatches.persons.contains(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexBackedPredicate)) {
+            return false;
+        }
+
+        IndexBackedPredicate otherIndexBackedPredicate = (IndexBackedPredicate) other;
+        return predicate.equals(otherIndexBackedPredicate.predicate)
+                && persons == otherIndexBackedPredicate.persons;
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return predicate.toString();
+    }
+
+    /**
+     * The matches found for one version of the list, set as a whole so that other threads never see the matches
+     * of one version with the number of another.
+     */
+    private static class Matches {
+        private final long version;
+        private final Set<Person> persons;
+
+        private Matches(long version, Set<Person> persons) {
+            this.version = version;
+            this.persons = persons;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} whose matches can be looked up in the indexes of a {@code UniquePersonList},
+ * instead of testing every person in the list.
+ *
+ * @see UniquePersonList#withIndexes(Predicate)
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code persons} that satisfy this predicate, compared by identity.
+     */
+    Set<Person> findMatches(UniquePersonList persons);
+
+    /**
+     * Returns an estimate of the number of persons in {@code persons} that satisfy this predicate, for choosing
+     * between indexes. The estimate should not be lower than the actual number, and should be made from the sizes
+     * the indexes keep, without finding or combining any matches.
+     */
+    int estimateMatches(UniquePersonList persons);
+
+    /**
+     * Returns true if every person that satisfies this predicate is known to satisfy {@code other} too, so that the
+     * persons satisfying this predicate can be found among those satisfying {@code other}. By default, a predicate
+     * is not known to refine any other predicate.
+     */
+    default boolean refines(Predicate<Person> other) {
+        return false;
+    }
+}
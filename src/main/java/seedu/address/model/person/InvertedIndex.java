@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from keys to the persons filed under them.
+ * Persons are compared by identity, as the index must tell apart persons that are equal but not the same.
+ *
+ * @param <K> the type of the keys
+ */
+class InvertedIndex<K> {
+
+    private final Map<K, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Files {@code person} under {@code key}.
+     */
+    public void add(K key, Person person) {
+        requireAllNonNull(key, person);
+        postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under {@code key}, if it is filed there.
+     */
+    public void remove(K key, Person person) {
+        requireAllNonNull(key, person);
+        postings.computeIfPresent(key, (unused, persons) -> {
+            persons.remove(person);
+            return persons.isEmpty() ? null : persons;
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons filed under {@code key}.
+     */
+    public Set<Person> get(K key) {
+        Set<Person> persons = postings.get(key);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys that have persons filed under them.
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+}
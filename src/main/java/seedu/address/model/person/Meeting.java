@@ -31,9 +31,28 @@ public class Meeting {
         this.end = end.isEmpty() ? null : ParserUtil.parseTime(end);
     }
 
+    /**
+     * Constructs a {@code Meeting} from a date and times that are already parsed.
+     * The date and times are null for a meeting that has not been set.
+     */
+    public Meeting(String description, LocalDate date, LocalTime start, LocalTime end) {
+        requireNonNull(description);
+        desc = description;
+        this.date = date;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns true if the meeting has a description, date and times, i.e. it is shown to the user.
+     */
+    public boolean isScheduled() {
+        return !desc.equals("") && date != null && start != null && end != null;
+    }
+
     @Override
     public String toString() {
-        if (desc.equals("") || date == null || start == null || end == null) {
+        if (!isScheduled()) {
             return "";
         }
         String formattedDate = date.format(DateTimeFormatter.ofPattern("d MMMM uuuu"));
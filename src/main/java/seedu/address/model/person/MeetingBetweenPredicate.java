@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has a meeting on a date from {@code from} to {@code to} inclusive.
+ * Matches can also be looked up in the meeting index of a {@code UniquePersonList}.
+ */
+public class MeetingBetweenPredicate implements IndexedPersonPredicate {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a predicate that holds for persons with meetings on dates from {@code from} to {@code to} inclusive.
+     */
+    public MeetingBetweenPredicate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Meeting meeting = person.getMeeting();
+        return meeting.isScheduled() && !meeting.date.isBefore(from) && !meeting.date.isAfter(to);
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(persons.findMeetingsBetween(from, to));
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        return persons.countMeetingsBetween(from, to);
+    }
+
+    /**
+     * Returns true if {@code other} also matches meetings by date, on dates that include all the dates of this
+     * predicate.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof MeetingBetweenPredicate)) {
+            return false;
+        }
+
+        MeetingBetweenPredicate otherMeetingBetweenPredicate = (MeetingBetweenPredicate) other;
+        return !from.isBefore(otherMeetingBetweenPredicate.from) && !to.isAfter(otherMeetingBetweenPredicate.to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingBetweenPredicate)) {
+            return false;
+        }
+
+        MeetingBetweenPredicate otherMeetingBetweenPredicate = (MeetingBetweenPredicate) other;
+        return from.equals(otherMeetingBetweenPredicate.from) && to.equals(otherMeetingBetweenPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return from.hashCode() * 31 + to.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
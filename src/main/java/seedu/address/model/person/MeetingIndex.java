@@ -0,0 +1,270 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * An interval tree of the scheduled meetings of persons, ordered by start and then end time.
+ *
+ * The tree is a treap, which stays balanced on average whatever order meetings are added in. Each node also keeps the
+ * latest end time in its subtree, so that subtrees with no meeting ending after a given time are skipped when
+ * looking for overlapping meetings. Queries thus take O(log n + k) time on average for k results. Each node keeps the
+ * size of its subtree too, so that the meetings on a range of dates are counted in O(log n) time.
+ */
+class MeetingIndex {
+
+    private static final Comparator<Node> NODE_ORDER = Comparator.<Node, LocalDateTime>comparing(node -> node.start)
+            .thenComparing(node -> node.end)
+            .thenComparingLong(node -> node.sequence);
+
+    private final Map<Person, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * Adds the meeting of {@code person} to the index, if it is scheduled.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Meeting meeting = person.getMeeting();
+        if (!meeting.isScheduled()) {
+            return;
+        }
+
+        Node node = new Node(person, meeting.date.atTime(meeting.start), meeting.date.atTime(meeting.end),
+                nextSequence++, random.nextInt());
+        nodes.put(person, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes the meeting of {@code person} from the index, if it is in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Node node = nodes.remove(person);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Removes all meetings from the index.
+     */
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the persons with meetings on dates from {@code from} to {@code to} inclusive, in the order of their
+     * meetings.
+     */
+    public List<Person> getMeetingsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        List<Person> persons = new ArrayList<>();
+        collectBetween(root, from, to, persons);
+        return persons;
+    }
+
+    /**
+     * Returns the persons with meetings that overlap the time from {@code start} to {@code end}, in the order of
+     * their meetings. Meetings that only touch at their ends do not overlap.
+     */
+    public List<Person> getMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Person> persons = new ArrayList<>();
+        collectOverlapping(root, start, end, persons);
+        return persons;
+    }
+
+    /**
+     * Returns the number of meetings on dates from {@code from} to {@code to} inclusive.
+     */
+    public int countMeetingsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return Math.max(0, countOnOrBefore(to) - countBefore(from));
+    }
+
+    private int countBefore(LocalDate date) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.start.toLocalDate().isBefore(date)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private int countOnOrBefore(LocalDate date) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (!node.start.toLocalDate().isAfter(date)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void collectBetween(Node node, LocalDate from, LocalDate to, List<Person> persons) {
+        if (node == null) {
+            return;
+        }
+
+        LocalDate date = node.start.toLocalDate();
+        if (!date.isBefore(from)) {
+            collectBetween(node.left, from, to, persons);
+        }
+        if (!date.isBefore(from) && !date.isAfter(to)) {
+            persons.add(node.person);
+        }
+        if (!date.isAfter(to)) {
+            collectBetween(node.right, from, to, persons);
+        }
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, List<Person> persons) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, persons);
+        if (node.start.isBefore(end)) {
+            if (node.end.isAfter(start)) {
+                persons.add(node.person);
+            }
+            collectOverlapping(node.right, start, end, persons);
+        }
+    }
+
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+
+        if (NODE_ORDER.compare(node, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private static Node delete(Node subtree, Node node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+
+        if (NODE_ORDER.compare(node, subtree) < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Merges two treaps, where every node of {@code left} comes before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        return newRoot;
+    }
+
+    /**
+     * A meeting in the tree.
+     */
+    private static class Node {
+        private final Person person;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private LocalDateTime maxEnd;
+        private int size = 1;
+
+        Node(Person person, LocalDateTime start, LocalDateTime end, long sequence, int priority) {
+            this.person = person;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            maxEnd = end;
+        }
+
+        /**
+         * Recomputes the latest end time and the size of this subtree from the children.
+         */
+        void update() {
+            size = MeetingIndex.size(left) + 1 + MeetingIndex.size(right);
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
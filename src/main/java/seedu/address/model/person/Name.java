@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +24,12 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} in lower case, used to match names ignoring case. */
+    private final String lowerCaseName;
+
+    /** {@code fullName} in lower case with all whitespace removed, used to detect similar names. */
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,6 +39,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase(Locale.ROOT);
+        normalizedName = name.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -44,6 +54,20 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name in lower case.
+     */
+    public String getLowerCaseName() {
+        return lowerCaseName;
+    }
+
+    /**
+     * Returns the name in lower case with all whitespace removed.
+     * Two names that normalize to the same string are considered similar.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
 
     @Override
     public String toString() {
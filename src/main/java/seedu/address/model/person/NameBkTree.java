@@ -0,0 +1,209 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A BK-tree over the lower-cased names of persons, for finding names within a small edit distance of a misspelt one.
+ *
+ * Every child of a node is filed under its edit distance from the node, so by the triangle inequality a search for
+ * names within distance {@code k} of a query at distance {@code d} from a node only needs to visit the children filed
+ * under {@code d - k} to {@code d + k}. For small {@code k} this visits a small part of the tree.
+ *
+ * Names are unique ignoring case, as in {@code UniquePersonList}. A removed name is left in the tree without a person,
+ * as a BK-tree cannot take out a node without refiling its subtree, and the tree is rebuilt once there are more
+ * removed names than persons.
+ */
+class NameBkTree {
+
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    /**
+     * Adds {@code person} to the tree under its name.
+     *
+     * @throws DuplicatePersonException if another person in the tree has the same name, ignoring case.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String key = toKey(person);
+        if (root == null) {
+            root = new Node(key, person);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = editDistance(key, node.key);
+            if (distance == 0) {
+                if (node.person != null) {
+                    throw new DuplicatePersonException();
+                }
+                node.person = person;
+                removedCount--;
+                size++;
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key, person));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code person} from the tree, if it is in the tree.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = toKey(person);
+        Node node = root;
+        while (node != null) {
+            int distance = editDistance(key, node.key);
+            if (distance == 0) {
+                if (node.person == person) {
+                    node.person = null;
+                    removedCount++;
+                    size--;
+                    rebuildIfSparse();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Removes all persons from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the persons whose names are within {@code maxDistance} edits of {@code name}, ignoring case, closest
+     * first, and in alphabetical order of name among those at the same distance.
+     */
+    public List<Person> getPersonsWithin(String name, int maxDistance) {
+        requireNonNull(name);
+        String key = name.toLowerCase(Locale.ROOT);
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = editDistance(key, node.key);
+            if (distance <= maxDistance && node.person != null) {
+                matches.add(new Match(node, distance));
+            }
+            for (int i = Math.max(1, distance - maxDistance); i <= distance + maxDistance; i++) {
+                Node child = node.children.get(i);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+
+        matches.sort(Comparator.<Match>comparingInt(match -> match.distance).thenComparing(match -> match.node.key));
+        List<Person> persons = new ArrayList<>();
+        for (Match match : matches) {
+            persons.add(match.node.person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     */
+    static int editDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + substitutionCost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Refiles the persons still in the tree once removed names outnumber them.
+     */
+    private void rebuildIfSparse() {
+        if (removedCount <= size) {
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            if (node.person != null) {
+                persons.add(node.person);
+            }
+            node.children.values().forEach(toVisit::push);
+        }
+        clear();
+        persons.forEach(this::add);
+    }
+
+    private static String toKey(Person person) {
+        return person.getName().getLowerCaseName();
+    }
+
+    /**
+     * A name in the tree, and the person with that name if the person has not been removed.
+     */
+    private static class Node {
+        private final String key;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private Person person;
+
+        Node(String key, Person person) {
+            this.key = key;
+            this.person = person;
+        }
+    }
+
+    /**
+     * A node that matched a search, and its distance from the name searched for.
+     */
+    private static class Match {
+        private final Node node;
+        private final int distance;
+
+        Match(Node node, int distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,18 +12,67 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Matches can also be looked up in the name trigram index of a {@code UniquePersonList}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that holds for persons whose name contains any of {@code keywords}, ignoring case.
+     * Each keyword must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String lowerCaseName = person.getName().getLowerCaseName();
+        for (String keyword : lowerCaseKeywords) {
+            if (lowerCaseName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : lowerCaseKeywords) {
+            matches.addAll(persons.findByNameContaining(keyword));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        int estimate = 0;
+        for (String keyword : lowerCaseKeywords) {
+            estimate += persons.estimateByNameContaining(keyword);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns true if {@code other} also matches names by keywords, and each of the keywords of this predicate
+     * contains one of its keywords, as a name containing the longer keyword also contains the shorter one.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        String[] otherLowerCaseKeywords = ((NameContainsKeywordsPredicate) other).lowerCaseKeywords;
+        for (String keyword : lowerCaseKeywords) {
+            if (Arrays.stream(otherLowerCaseKeywords).noneMatch(keyword::contains)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -37,6 +90,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from every three-character substring (trigram) of the lower-cased names of persons to those persons.
+ *
+ * A person's name can only contain a keyword if it contains every trigram of the keyword, so intersecting the
+ * postings of the keyword's trigrams narrows the search down to a few candidates, which are then checked in full.
+ * Persons are compared by identity, as the index must tell apart persons that are equal but not the same.
+ */
+public class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Map<Person, String> lowerCaseNames = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String lowerCaseName = person.getName().getLowerCaseName();
+        lowerCaseNames.put(person, lowerCaseName);
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseName.length(); i++) {
+            postings.computeIfAbsent(lowerCaseName.substring(i, i + GRAM_LENGTH), unused -> newIdentitySet())
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String lowerCaseName = lowerCaseNames.remove(person);
+        if (lowerCaseName == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseName.length(); i++) {
+            postings.computeIfPresent(lowerCaseName.substring(i, i + GRAM_LENGTH), (unused, persons) -> {
+                persons.remove(person);
+                return persons.isEmpty() ? null : persons;
+            });
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        postings.clear();
+        lowerCaseNames.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case.
+     * Keywords shorter than a trigram cannot be looked up, so every person is checked for them.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     */
+    public Set<Person> getPersonsWithNameContaining(String keyword) {
+        String preppedKeyword = prepKeyword(keyword);
+        Set<Person> matches = newIdentitySet();
+        for (Person candidate : getCandidates(preppedKeyword)) {
+            if (lowerCaseNames.get(candidate).contains(preppedKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons that contain the rarest trigram of {@code keyword}, which is an upper bound on
+     * the number of persons whose name contains {@code keyword}. The postings are not intersected, so that the
+     * estimate stays cheap.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     */
+    public int countCandidates(String keyword) {
+        String preppedKeyword = prepKeyword(keyword);
+        if (preppedKeyword.length() < GRAM_LENGTH) {
+            return lowerCaseNames.size();
+        }
+        List<Set<Person>> keywordPostings = getPostings(preppedKeyword);
+        return keywordPostings.isEmpty() ? 0 : keywordPostings.get(0).size();
+    }
+
+    private static String prepKeyword(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
+        checkArgument(preppedKeyword.split("\\s+").length == 1, "Keyword parameter should be a single word");
+        return preppedKeyword;
+    }
+
+    /**
+     * Returns the persons that contain every trigram of {@code keyword}. The postings are intersected from the
+     * smallest to the largest, stopping as soon as no candidate is left.
+     */
+    private Set<Person> getCandidates(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return lowerCaseNames.keySet();
+        }
+
+        List<Set<Person>> keywordPostings = getPostings(keyword);
+        if (keywordPostings.size() <= 1) {
+            return keywordPostings.isEmpty() ? Collections.emptySet() : keywordPostings.get(0);
+        }
+        Set<Person> candidates = newIdentitySet();
+        candidates.addAll(keywordPostings.get(0));
+        for (int i = 1; i < keywordPostings.size() && !candidates.isEmpty(); i++) {
+            Set<Person> posting = keywordPostings.get(i);
+            candidates.removeIf(candidate -> !posting.contains(candidate));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct postings of the trigrams of {@code keyword}, from the smallest to the largest, or an empty
+     * list if some trigram has no posting. {@code keyword} must be at least a trigram long.
+     */
+    private List<Set<Person>> getPostings(String keyword) {
+        List<Set<Person>> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<Person> posting = postings.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (keywordPostings.stream().noneMatch(other -> other == posting)) {
+                keywordPostings.add(posting);
+            }
+        }
+        keywordPostings.sort(Comparator.comparingInt(Set::size));
+        return keywordPostings;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
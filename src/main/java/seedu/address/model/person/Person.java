@@ -26,7 +26,7 @@ public class Person {
     private final Company company;
     private final Meeting meeting;
     private final Priority priority;
-    private boolean starred;
+    private final boolean starred;
     private final Remark remark;
     private final Set<Tag> tags = new HashSet<>();
 
@@ -76,14 +76,6 @@ public class Person {
         return priority;
     }
 
-    public void starContact() {
-        this.starred = true;
-    }
-
-    public void unstarContact() {
-        this.starred = false;
-    }
-
     public boolean isStarred() {
         return starred;
     }
@@ -124,9 +116,7 @@ public class Person {
         if (otherPerson == null) {
             return false;
         }
-        String otherPersonNameLowerCase = otherPerson.getName().fullName.replaceAll("\\s", "")
-                .toLowerCase();
-        return otherPersonNameLowerCase.contains(getName().fullName.replaceAll("\\s", "").toLowerCase());
+        return otherPerson.getName().getNormalizedName().contains(getName().getNormalizedName());
     }
 
     /**
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Bitmaps of the ids of persons in a list that have each {@code PersonFlag} and each tag, see
+ * {@link UniquePersonList#getId(Person)}. Combining the bitmaps of several attributes takes a few bitwise operations
+ * per 64 persons. As ids do not change when other persons are added or removed, a change to the list only touches the
+ * bits of the persons changed.
+ *
+ * The bitmaps are plain {@code BitSet}s, which take one bit per id up to the highest id set whether or not the bits
+ * in between are set. Run-length compressed bitmaps would be smaller for rare attributes, but are out of scope here.
+ */
+class PersonBitmapIndex {
+
+    private final Map<PersonFlag, BitSet> flagBitmaps = new EnumMap<>(PersonFlag.class);
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+
+    PersonBitmapIndex() {
+        for (PersonFlag flag : PersonFlag.values()) {
+            flagBitmaps.put(flag, new BitSet());
+        }
+    }
+
+    /**
+     * Sets the bits of the attributes of {@code person}, whose id is {@code id}.
+     * The bits of {@code id} must be clear.
+     */
+    public void set(int id, Person person) {
+        for (Map.Entry<PersonFlag, BitSet> entry : flagBitmaps.entrySet()) {
+            if (entry.getKey().isSetFor(person)) {
+                entry.getValue().set(id);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(id);
+        }
+    }
+
+    /**
+     * Clears the bits of {@code id}, which were set for {@code person}.
+     */
+    public void clear(int id, Person person) {
+        for (Map.Entry<PersonFlag, BitSet> entry : flagBitmaps.entrySet()) {
+            if (entry.getKey().isSetFor(person)) {
+                entry.getValue().clear(id);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            if (bitmap != null) {
+                bitmap.clear(id);
+                if (bitmap.isEmpty()) {
+                    tagBitmaps.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears all bitmaps.
+     */
+    public void clearAll() {
+        flagBitmaps.values().forEach(BitSet::clear);
+        tagBitmaps.clear();
+    }
+
+    /**
+     * Returns the number of persons with {@code flag}.
+     */
+    public int count(PersonFlag flag) {
+        return flagBitmaps.get(flag).cardinality();
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code tag}.
+     */
+    public int count(Tag tag) {
+        BitSet bitmap = tagBitmaps.get(tag);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    /**
+     * Returns a copy of the bitmap of the ids of persons with {@code flag}.
+     */
+    public BitSet get(PersonFlag flag) {
+        return (BitSet) flagBitmaps.get(flag).clone();
+    }
+
+    /**
+     * Returns a copy of the bitmap of the ids of persons tagged with {@code tag}.
+     */
+    public BitSet get(Tag tag) {
+        BitSet bitmap = tagBitmaps.get(tag);
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model.person;
+
+/**
+ * A yes-or-no attribute of a person, kept in a bitmap index by {@code UniquePersonList}.
+ */
+public enum PersonFlag {
+    HIGH_PRIORITY,
+    MED_PRIORITY,
+    STARRED,
+    HAS_MEETING,
+    HAS_COMPANY;
+
+    /**
+     * Returns true if {@code person} has this attribute.
+     */
+    public boolean isSetFor(Person person) {
+        switch (this) {
+        case HIGH_PRIORITY:
+            return person.getPriority().value.equals("high");
+        case MED_PRIORITY:
+            return person.getPriority().value.equals("med");
+        case STARRED:
+            return person.isStarred();
+        case HAS_MEETING:
+            return person.getMeeting().isScheduled();
+        case HAS_COMPANY:
+            return person.getCompany().hasCompany();
+        default:
+            throw new AssertionError(this);
+        }
+    }
+}
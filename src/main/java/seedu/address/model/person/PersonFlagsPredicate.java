@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has all of the {@code PersonFlag}s given.
+ * Matches can also be looked up in the bitmap index of a {@code UniquePersonList}, by and-ing the flags' bitmaps.
+ */
+public class PersonFlagsPredicate implements IndexedPersonPredicate {
+    private final Set<PersonFlag> flags;
+
+    /**
+     * Creates a predicate that holds for persons with all of {@code flags}.
+     */
+    public PersonFlagsPredicate(Collection<PersonFlag> flags) {
+        requireNonNull(flags);
+        this.flags = flags.isEmpty() ? EnumSet.noneOf(PersonFlag.class) : EnumSet.copyOf(flags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return flags.stream().allMatch(flag -> flag.isSetFor(person));
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        return persons.getPersonsWithIds(findIds(persons));
+    }
+
+    /**
+     * Returns the number of persons with the rarest of the flags, without intersecting the bitmaps.
+     */
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        int estimate = persons.size();
+        for (PersonFlag flag : flags) {
+            estimate = Math.min(estimate, persons.countWith(flag));
+        }
+        return estimate;
+    }
+
+    private BitSet findIds(UniquePersonList persons) {
+        BitSet ids = persons.getIds();
+        for (PersonFlag flag : flags) {
+            ids.and(persons.getIdsWith(flag));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns true if {@code other} also matches persons by flags, and each of its flags is a flag of this predicate.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof PersonFlagsPredicate && flags.containsAll(((PersonFlagsPredicate) other).flags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFlagsPredicate)) {
+            return false;
+        }
+
+        PersonFlagsPredicate otherPersonFlagsPredicate = (PersonFlagsPredicate) other;
+        return flags.equals(otherPersonFlagsPredicate.flags);
+    }
+
+    @Override
+    public int hashCode() {
+        return flags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("flags", flags).toString();
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of persons backed by a balanced tree, so that inserting, removing or replacing a person at any
+ * position takes logarithmic time instead of shifting the persons after it. Listeners are told of each change to the
+ * positions it affects, as with {@code FXCollections.observableArrayList()}.
+ *
+ * The tree is a treap: each node keeps the size of its subtree, to find a position, and a random priority that
+ * keeps the tree balanced in expectation. Each node also links to its parent, and a map from each person, by identity,
+ * to its node lets the position of a person be found by walking up the tree. A person can therefore only be in the
+ * list once, as {@code UniquePersonList} ensures.
+ */
+class PersonTreeList extends ModifiableObservableListBase<Person> {
+
+    private final Map<Person, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node root;
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, size());
+        return nodeAt(index).person;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns true if {@code person} itself, not just a person equal to it, is in the list.
+     */
+    public boolean containsSame(Person person) {
+        return nodes.containsKey(person);
+    }
+
+    /**
+     * Returns the position of {@code person} itself in the list, or -1 if it is not in the list.
+     */
+    public int indexOfSame(Person person) {
+        Node node = nodes.get(person);
+        if (node == null) {
+            return -1;
+        }
+        int index = size(node.left);
+        for (Node child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                index += size(child.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Runs {@code changes} to this list, telling listeners of them as a single change once they are all done.
+     */
+    public void changeAtOnce(Runnable changes) {
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size() + 1);
+        checkNotInList(person);
+        Node node = new Node(person, random.nextInt());
+        nodes.put(person, node);
+        insert(index, node);
+    }
+
+    @Override
+    protected Person doSet(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size());
+        Node node = nodeAt(index);
+        Person old = node.person;
+        if (person != old) {
+            checkNotInList(person);
+            nodes.remove(old);
+            nodes.put(person, node);
+            node.person = person;
+        }
+        return old;
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        Objects.checkIndex(index, size());
+        Node node = nodeAt(index);
+        nodes.remove(node.person);
+        delete(node);
+        return node.person;
+    }
+
+    private void checkNotInList(Person person) {
+        if (nodes.containsKey(person)) {
+            throw new IllegalArgumentException("A person can only be in the list once");
+        }
+    }
+
+    private Node nodeAt(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Attaches {@code node} as a leaf at position {@code index}, then rotates it up above any parent of lower
+     * priority.
+     */
+    private void insert(int index, Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node parent = root;
+        while (true) {
+            int leftSize = size(parent.left);
+            if (index <= leftSize) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index -= leftSize + 1;
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        node.parent = parent;
+        for (Node ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size++;
+        }
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+    }
+
+    /**
+     * Rotates {@code node} down below its child of higher priority until it has at most one child, then replaces it
+     * with that child.
+     */
+    private void delete(Node node) {
+        while (node.left != null && node.right != null) {
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+        }
+
+        Node child = node.left != null ? node.left : node.right;
+        Node parent = node.parent;
+        if (child != null) {
+            child.parent = parent;
+        }
+        replaceChild(parent, node, child);
+        for (Node ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+    }
+
+    /**
+     * Swaps {@code node} with its parent, keeping the order of the list.
+     */
+    private void rotateUp(Node node) {
+        Node parent = node.parent;
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+
+        Node grandparent = parent.parent;
+        parent.parent = node;
+        node.parent = grandparent;
+        replaceChild(grandparent, parent, node);
+        parent.updateSize();
+        node.updateSize();
+    }
+
+    private void replaceChild(Node parent, Node oldChild, Node newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A position in the list, holding the person there.
+     */
+    private static class Node {
+        private final int priority;
+        private Person person;
+        private Node left;
+        private Node right;
+        private Node parent;
+        private int size = 1;
+
+        Node(Person person, int priority) {
+            this.person = person;
+            this.priority = priority;
+        }
+
+        void updateSize() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
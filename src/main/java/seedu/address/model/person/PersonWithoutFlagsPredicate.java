@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has none of the {@code PersonFlag}s given.
+ * Matches can also be looked up in the bitmap index of a {@code UniquePersonList}, by clearing the flags' bitmaps
+ * from the ids of all persons.
+ */
+public class PersonWithoutFlagsPredicate implements IndexedPersonPredicate {
+    private final Set<PersonFlag> flags;
+
+    /**
+     * Creates a predicate that holds for persons with none of {@code flags}.
+     */
+    public PersonWithoutFlagsPredicate(Collection<PersonFlag> flags) {
+        requireNonNull(flags);
+        this.flags = flags.isEmpty() ? EnumSet.noneOf(PersonFlag.class) : EnumSet.copyOf(flags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return flags.stream().noneMatch(flag -> flag.isSetFor(person));
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        BitSet ids = persons.getIds();
+        for (PersonFlag flag : flags) {
+            ids.andNot(persons.getIdsWith(flag));
+        }
+        return persons.getPersonsWithIds(ids);
+    }
+
+    /**
+     * Returns the number of persons without the most common of the flags, without combining the bitmaps.
+     */
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        int estimate = persons.size();
+        for (PersonFlag flag : flags) {
+            estimate = Math.min(estimate, persons.size() - persons.countWith(flag));
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns true if {@code other} also matches persons by missing flags, and each of its flags is a flag of this
+     * predicate.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof PersonWithoutFlagsPredicate
+                && flags.containsAll(((PersonWithoutFlagsPredicate) other).flags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonWithoutFlagsPredicate)) {
+            return false;
+        }
+
+        PersonWithoutFlagsPredicate otherPersonWithoutFlagsPredicate = (PersonWithoutFlagsPredicate) other;
+        return flags.equals(otherPersonWithoutFlagsPredicate.flags);
+    }
+
+    @Override
+    public int hashCode() {
+        return flags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("flags", flags).toString();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} starts with the digits given.
+ * Matches can also be looked up in the phone trie of a {@code UniquePersonList}.
+ */
+public class PhonePrefixPredicate implements IndexedPersonPredicate {
+    private final String prefix;
+
+    /**
+     * Creates a predicate that holds for persons whose phone numbers start with {@code prefix}.
+     *
+     * @param prefix a string of digits
+     */
+    public PhonePrefixPredicate(String prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().value.startsWith(prefix);
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        return persons.findByPhonePrefix(prefix);
+    }
+
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        return persons.countByPhonePrefix(prefix);
+    }
+
+    /**
+     * Returns true if {@code other} also matches phone numbers by prefix, and its prefix starts this prefix.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof PhonePrefixPredicate && prefix.startsWith(((PhonePrefixPredicate) other).prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhonePrefixPredicate)) {
+            return false;
+        }
+
+        PhonePrefixPredicate otherPhonePrefixPredicate = (PhonePrefixPredicate) other;
+        return prefix.equals(otherPhonePrefixPredicate.prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return prefix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefix", prefix).toString();
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A trie over the digits of the phone numbers of persons.
+ *
+ * Finding the persons whose phone numbers start with a prefix walks down the prefix and then collects the subtree
+ * below it. Empty subtrees are pruned on removal, so every node visited leads to a result, and a query takes time
+ * proportional to the length of the prefix plus the digits of the results. Each node also counts the persons in its
+ * subtree, so the number of results can be found by walking down the prefix alone.
+ * Persons are compared by identity, as the trie must tell apart persons that are equal but not the same.
+ */
+class PhoneTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code person} to the trie under its phone number.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String phone = person.getPhone().value;
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < phone.length(); i++) {
+            int digit = toDigit(phone.charAt(i));
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+            }
+            node = node.children[digit];
+            node.count++;
+        }
+        if (node.persons == null) {
+            node.persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        node.persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the trie, if it is in the trie.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        remove(root, person.getPhone().value, 0, person);
+    }
+
+    /**
+     * Removes all persons from the trie.
+     */
+    public void clear() {
+        root.persons = null;
+        root.count = 0;
+        Arrays.fill(root.children, null);
+    }
+
+    /**
+     * Returns the persons whose phone numbers start with {@code prefix}, compared by identity.
+     *
+     * @param prefix a string of digits, which may be empty
+     */
+    public Set<Person> getPersonsWithPrefix(String prefix) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(find(prefix), persons);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons whose phone numbers start with {@code prefix}.
+     *
+     * @param prefix a string of digits, which may be empty
+     */
+    public int countWithPrefix(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns the node reached by the digits of {@code prefix}, or null if no phone number starts with it.
+     */
+    private Node find(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children[toDigit(prefix.charAt(i))];
+        }
+        return node;
+    }
+
+    /**
+     * Removes {@code person} from below {@code node}, which is reached by the first {@code depth} digits of
+     * {@code phone}, and returns true if {@code person} was found there.
+     */
+    private static boolean remove(Node node, String phone, int depth, Person person) {
+        boolean isRemoved = false;
+        if (depth == phone.length()) {
+            if (node.persons != null) {
+                isRemoved = node.persons.remove(person);
+                if (node.persons.isEmpty()) {
+                    node.persons = null;
+                }
+            }
+        } else {
+            int digit = toDigit(phone.charAt(depth));
+            Node child = node.children[digit];
+            if (child != null) {
+                isRemoved = remove(child, phone, depth + 1, person);
+                if (child.isEmpty()) {
+                    node.children[digit] = null;
+                }
+            }
+        }
+        if (isRemoved) {
+            node.count--;
+        }
+        return isRemoved;
+    }
+
+    private static void collect(Node node, Set<Person> persons) {
+        if (node == null) {
+            return;
+        }
+        if (node.persons != null) {
+            persons.addAll(node.persons);
+        }
+        for (Node child : node.children) {
+            collect(child, persons);
+        }
+    }
+
+    private static int toDigit(char c) {
+        int digit = c - '0';
+        if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("Phone numbers should only contain digits: " + c);
+        }
+        return digit;
+    }
+
+    /**
+     * A digit position in the trie, holding the persons whose phone numbers end there.
+     */
+    private static class Node {
+        private final Node[] children = new Node[10];
+        private Set<Person> persons;
+        private int count;
+
+        boolean isEmpty() {
+            if (persons != null) {
+                return false;
+            }
+            for (Node child : children) {
+                if (child != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
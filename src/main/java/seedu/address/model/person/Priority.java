@@ -7,6 +7,10 @@ import static java.util.Objects.requireNonNull;
  * Guarantees: immutable; is always valid.
  */
 public class Priority {
+    private static final Priority HIGH = new Priority("high");
+    private static final Priority MED = new Priority("med");
+    private static final Priority NONE = new Priority("");
+
     public final String value;
 
     /**
@@ -23,6 +27,27 @@ public class Priority {
         value = priorityLevel;
     }
 
+    /**
+     * Returns the shared {@code Priority} of {@code priorityLevel}. There are only three priority levels, so every
+     * person shares one of three instances.
+     *
+     * @param priorityLevel A valid priority level, which can be "high", "med", or empty.
+     * @throws IllegalArgumentException if the priority level is not "high", "med", or empty.
+     */
+    public static Priority of(String priorityLevel) {
+        requireNonNull(priorityLevel);
+        switch (priorityLevel) {
+        case "high":
+            return HIGH;
+        case "med":
+            return MED;
+        case "":
+            return NONE;
+        default:
+            return new Priority(priorityLevel); // rejected by the constructor
+        }
+    }
+
     /**
      * Checks if the Person has priority.
      * @return true if the value is not empty (has priority), false otherwise.
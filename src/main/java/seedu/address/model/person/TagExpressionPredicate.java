@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person}'s tags satisfy an expression of tags joined by AND and OR, with AND binding tighter.
+ * The expression is held as the clauses that are joined by OR, each clause being the set of tags joined by AND.
+ *
+ * Matches can also be looked up in the tag bitmaps of a {@code UniquePersonList}, by intersecting the bitmaps of the
+ * tags in each clause and taking the union of the clauses.
+ */
+public class TagExpressionPredicate implements IndexedPersonPredicate {
+    private final List<Set<Tag>> clauses;
+
+    /**
+     * Creates a predicate that holds for persons that have all the tags of at least one of {@code clauses}.
+     */
+    public TagExpressionPredicate(List<Set<Tag>> clauses) {
+        requireNonNull(clauses);
+        this.clauses = new ArrayList<>(clauses);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return clauses.stream().anyMatch(clause -> person.getTags().containsAll(clause));
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        return persons.getPersonsWithIds(findIds(persons));
+    }
+
+    /**
+     * Returns the sum over the clauses of the number of persons with the rarest tag of each, without intersecting or
+     * combining the bitmaps.
+     */
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        int estimate = 0;
+        for (Set<Tag> clause : clauses) {
+            int clauseEstimate = persons.size();
+            for (Tag tag : clause) {
+                clauseEstimate = Math.min(clauseEstimate, persons.countWith(tag));
+            }
+            estimate += clauseEstimate;
+        }
+        return Math.min(estimate, persons.size());
+    }
+
+    private BitSet findIds(UniquePersonList persons) {
+        BitSet matches = new BitSet();
+        for (Set<Tag> clause : clauses) {
+            BitSet clauseMatches = persons.getIds();
+            for (Tag tag : clause) {
+                clauseMatches.and(persons.getIdsWith(tag));
+            }
+            matches.or(clauseMatches);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagExpressionPredicate)) {
+            return false;
+        }
+
+        TagExpressionPredicate otherTagExpressionPredicate = (TagExpressionPredicate) other;
+        return clauses.equals(otherTagExpressionPredicate.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
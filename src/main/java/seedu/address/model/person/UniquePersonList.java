@@ -3,13 +3,27 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +32,266 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are held in a {@link PersonTreeList}, so that a person is added, replaced or removed at any position in
+ * logarithmic time, and the position of a person is found from the person itself in logarithmic time too. A person
+ * to update or remove is looked up by identity first, so that it is found without walking the list, and
+ * Person#equals(Object) is only called for a copy of a person in the list.
+ *
+ * Every person in the list also has an id, which unlike its position does not change when other persons are added
+ * or removed. An edited person keeps the id of the person it replaces, and the id of a removed person is given to the
+ * next person added. Ids are thus small enough to key bitmaps on, see {@link #getId(Person)}.
+ *
+ * A case-folded index from contact name to person, and a count of persons per normalized name (see
+ * {@link Name#getNormalizedName()}), are kept in sync with the list, so that identity checks, similar-name checks
+ * and lookups by name do not need to walk the whole list. A {@link NameTrigramIndex} and an index from the
+ * lower-cased words of company names to persons are kept in sync too, for searches by part of a name or company.
+ * A {@link PersonBitmapIndex} of the ids of persons with each {@link PersonFlag} and tag is kept as well, and
+ * so are a {@link MeetingIndex} of scheduled meetings in time order, a {@link PhoneTrie} of phone numbers and a
+ * {@link NameBkTree} for finding names despite typos.
+ * The indexes are updated before the list itself changes, so that listeners of the list see indexes that already
+ * reflect the change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonTreeList internalList = new PersonTreeList();
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final List<Person> personsById = new ArrayList<>();
+    private final BitSet freeIds = new BitSet();
+    private long[] indexVersionsById = new long[16];
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> nameIndex = new HashMap<>();
+    private final Map<String, Integer> normalizedNameCounts = new HashMap<>();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final InvertedIndex<String> companyWordIndex = new InvertedIndex<>();
+    private final PersonBitmapIndex bitmapIndex = new PersonBitmapIndex();
+    private final MeetingIndex meetingIndex = new MeetingIndex();
+    private final PhoneTrie phoneTrie = new PhoneTrie();
+    private final NameBkTree nameBkTree = new NameBkTree();
+    private long indexVersion;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toIndexKey(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person whose name is similar to that of the given argument.
+     */
+    public boolean containsSimilar(Person toCheck) {
+        requireNonNull(toCheck);
+        return normalizedNameCounts.containsKey(toCheck.getName().getNormalizedName());
+    }
+
+    /**
+     * Returns the person whose name matches {@code name}, ignoring case, if there is one.
+     */
+    public Optional<Person> findByName(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(toIndexKey(name)));
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case, compared by identity.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     */
+    public Set<Person> findByNameContaining(String keyword) {
+        return nameTrigramIndex.getPersonsWithNameContaining(keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case, without
+     * checking any names.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     */
+    public int estimateByNameContaining(String keyword) {
+        return nameTrigramIndex.countCandidates(keyword);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose company name has {@code word} as one of its words,
+     * ignoring case, compared by identity.
+     */
+    public Set<Person> findByCompanyWord(String word) {
+        requireNonNull(word);
+        return companyWordIndex.get(toIndexKey(word));
+    }
+
+    /**
+     * Returns the persons whose names are within {@code maxDistance} edits of {@code name}, ignoring case, closest
+     * first.
+     */
+    public List<Person> findByNameWithin(String name, int maxDistance) {
+        return nameBkTree.getPersonsWithin(name, maxDistance);
+    }
+
+    /**
+     * Returns the persons whose phone numbers start with {@code prefix}, compared by identity.
+     *
+     * @param prefix a string of digits, which may be empty
+     */
+    public Set<Person> findByPhonePrefix(String prefix) {
+        return phoneTrie.getPersonsWithPrefix(prefix);
+    }
+
+    /**
+     * Returns the number of persons whose phone numbers start with {@code prefix}.
+     *
+     * @param prefix a string of digits, which may be empty
+     */
+    public int countByPhonePrefix(String prefix) {
+        return phoneTrie.countWithPrefix(prefix);
+    }
+
+    /**
+     * Returns a bitmap of the ids of all persons in this list.
+     */
+    public BitSet getIds() {
+        BitSet allIds = new BitSet();
+        allIds.set(0, personsById.size());
+        allIds.andNot(freeIds);
+        return allIds;
+    }
+
+    /**
+     * Returns a bitmap of the ids of the persons in this list with {@code flag}.
+     */
+    public BitSet getIdsWith(PersonFlag flag) {
+        requireNonNull(flag);
+        return bitmapIndex.get(flag);
+    }
+
+    /**
+     * Returns a bitmap of the ids of the persons in this list tagged with {@code tag}.
+     */
+    public BitSet getIdsWith(Tag tag) {
+        requireNonNull(tag);
+        return bitmapIndex.get(tag);
+    }
+
+    /**
+     * Returns the number of persons in this list with {@code flag}, without copying its bitmap.
+     */
+    public int countWith(PersonFlag flag) {
+        requireNonNull(flag);
+        return bitmapIndex.count(flag);
+    }
+
+    /**
+     * Returns the number of persons in this list tagged with {@code tag}, without copying its bitmap.
+     */
+    public int countWith(Tag tag) {
+        requireNonNull(tag);
+        return bitmapIndex.count(tag);
+    }
+
+    /**
+     * Returns the persons in this list whose ids are set in {@code ids}, compared by identity.
+     */
+    public Set<Person> getPersonsWithIds(BitSet ids) {
+        requireNonNull(ids);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id = ids.nextSetBit(0); id >= 0 && id < personsById.size(); id = ids.nextSetBit(id + 1)) {
+            Person person = personsById.get(id);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons with meetings on dates from {@code from} to {@code to} inclusive, in the order of their
+     * meetings.
+     */
+    public List<Person> findMeetingsBetween(LocalDate from, LocalDate to) {
+        return meetingIndex.getMeetingsBetween(from, to);
+    }
+
+    /**
+     * Returns the number of persons with meetings on dates from {@code from} to {@code to} inclusive.
+     */
+    public int countMeetingsBetween(LocalDate from, LocalDate to) {
+        return meetingIndex.countMeetingsBetween(from, to);
+    }
+
+    /**
+     * Returns the persons with meetings that overlap {@code meeting}, in the order of their meetings.
+     * Returns an empty list if {@code meeting} is not scheduled.
+     */
+    public List<Person> findMeetingsOverlapping(Meeting meeting) {
+        requireNonNull(meeting);
+        if (!meeting.isScheduled()) {
+            return Collections.emptyList();
+        }
+        return meetingIndex.getMeetingsOverlapping(meeting.date.atTime(meeting.start),
+                meeting.date.atTime(meeting.end));
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns a predicate that holds for the same persons of this list as {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPersonPredicate}, the returned predicate finds its matches through the
+     * indexes of this list once, and tests persons added or edited since then directly; otherwise it is returned as
+     * is.
+     */
+    public Predicate<Person> withIndexes(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedPersonPredicate) {
+            return new IndexBackedPredicate((IndexedPersonPredicate) predicate, this);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the id of {@code person}, which must be in the list, compared by identity.
+     * The id stays the same while the person is in the list, and is passed on to the person it is replaced by.
+     */
+    public int getId(Person person) {
+        requireNonNull(person);
+        Integer id = ids.get(person);
+        if (id == null) {
+            throw new PersonNotFoundException();
+        }
+        return id;
+    }
+
+    /**
+     * Returns the person in the list with the id {@code id}, if there is one.
+     */
+    public Optional<Person> findById(int id) {
+        return id >= 0 && id < personsById.size() ? Optional.ofNullable(personsById.get(id)) : Optional.empty();
+    }
+
+    /**
+     * Returns a number that changes whenever the indexes of this list change.
+     */
+    public long getIndexVersion() {
+        return indexVersion;
+    }
+
+    /**
+     * Returns true if {@code person} itself is not in the list, or was added to the indexes after they were at
+     * {@code version} (see {@link #getIndexVersion()}), so that matches found at that version may not include it.
+     */
+    boolean isIndexedAfter(Person person, long version) {
+        Integer id = ids.get(person);
+        return id == null || indexVersionsById[id] > version;
     }
 
     /**
@@ -45,6 +303,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        assignId(toAdd);
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,8 +316,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person stored = findStored(target);
+        if (stored == null) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +325,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        unindex(stored);
+        int id = ids.remove(stored);
+        ids.put(editedPerson, id);
+        personsById.set(id, editedPerson);
+        index(editedPerson);
+        internalList.set(internalList.indexOfSame(stored), editedPerson);
     }
 
     /**
@@ -74,14 +339,91 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person stored = findStored(toRemove);
+        if (stored == null) {
             throw new PersonNotFoundException();
         }
+        unindex(stored);
+        releaseId(stored);
+        internalList.remove(internalList.indexOfSame(stored));
     }
 
+    /**
+     * Runs {@code changes}, which change this list through its other methods, so that listeners of the list are told
+     * of a single change once they are all done. The indexes are updated for each change as usual.
+     */
+    public void changeAtOnce(Runnable changes) {
+        requireNonNull(changes);
+        internalList.changeAtOnce(changes);
+    }
+
+    /**
+     * Removes {@code removals}, replaces each key of {@code edits} with its value and then adds {@code additions},
+     * telling listeners of the list of a single change. Only the persons changed are unindexed and indexed, so this
+     * takes time in the number of changes rather than the size of the list. All the changes are checked before any
+     * is made, so if one is not allowed, the list is left as it was.
+     * The persons to remove and the keys of {@code edits} must be persons in the list itself, each given once; the
+     * persons in the list after the changes must be unique.
+     *
+     * @throws PersonNotFoundException if a person to remove or replace is not in the list.
+     * @throws DuplicatePersonException if the changes would leave two persons with the same identity in the list.
+     */
+    public void applyChanges(List<Person> removals, Map<Person, Person> edits, List<Person> additions) {
+        requireAllNonNull(removals, edits, additions);
+        Set<Person> leaving = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : removals) {
+            requireInList(person);
+            leaving.add(person);
+        }
+        for (Person person : edits.keySet()) {
+            requireInList(person);
+            leaving.add(person);
+        }
+
+        Set<String> arrivingKeys = new HashSet<>();
+        List<Person> arriving = new ArrayList<>(edits.values());
+        arriving.addAll(additions);
+        for (Person person : arriving) {
+            Person holder = nameIndex.get(toIndexKey(person));
+            if (!arrivingKeys.add(toIndexKey(person)) || holder != null && !leaving.contains(holder)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        // Everyone leaving is unindexed before anyone arriving is indexed, so that persons may swap names
+        internalList.changeAtOnce(() -> {
+            leaving.forEach(this::unindex);
+            for (Person person : removals) {
+                releaseId(person);
+                internalList.remove(internalList.indexOfSame(person));
+            }
+            edits.forEach((stored, editedPerson) -> {
+                ids.put(editedPerson, ids.remove(stored));
+                personsById.set(ids.get(editedPerson), editedPerson);
+                index(editedPerson);
+                internalList.set(internalList.indexOfSame(stored), editedPerson);
+            });
+            for (Person person : additions) {
+                assignId(person);
+                index(person);
+                internalList.add(person);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        normalizedNameCounts.clear();
+        normalizedNameCounts.putAll(replacement.normalizedNameCounts);
+        List<Person> persons = new ArrayList<>(replacement.internalList);
+        reassignIds(persons);
+        rebuildSearchIndexes(persons);
+        internalList.setAll(persons);
     }
 
     /**
@@ -90,10 +432,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<String, Person> replacementIndex = buildNameIndex(persons);
 
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        normalizedNameCounts.clear();
+        for (Person person : persons) {
+            normalizedNameCounts.merge(person.getName().getNormalizedName(), 1, Integer::sum);
+        }
+        reassignIds(persons);
+        rebuildSearchIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -135,16 +483,153 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a name index over {@code persons}, checking in a single pass that they are all unique.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    private static Map<String, Person> buildNameIndex(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(toIndexKey(person), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the person in the list that is {@code person}, or else the one equal to it, or null if there is none.
+     * As persons in the list have unique names, only the person with the same name can be equal to {@code person}.
+     */
+    private Person findStored(Person person) {
+        if (ids.containsKey(person)) {
+            return person;
+        }
+        Person stored = nameIndex.get(toIndexKey(person));
+        return stored != null && stored.equals(person) ? stored : null;
+    }
+
+    /**
+     * Gives {@code person} the lowest id not taken by another person in the list.
+     */
+    private void assignId(Person person) {
+        int id = freeIds.nextSetBit(0);
+        if (id < 0) {
+            id = personsById.size();
+            personsById.add(person);
+        } else {
+            freeIds.clear(id);
+            personsById.set(id, person);
+        }
+        ids.put(person, id);
+    }
+
+    /**
+     * Frees the id of {@code person}, which is leaving the list, for the next person added.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void releaseId(Person person) {
+        int id = ids.remove(person);
+        personsById.set(id, null);
+        freeIds.set(id);
+    }
+
+    /**
+     * Throws a {@code PersonNotFoundException} unless {@code person} itself is in the list.
+     */
+    private void requireInList(Person person) {
+        requireNonNull(person);
+        if (!ids.containsKey(person)) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    /**
+     * Gives the persons in {@code persons} the ids from 0 in order, in place of the ids of the persons in the list.
+     */
+    private void reassignIds(List<Person> persons) {
+        ids.clear();
+        personsById.clear();
+        freeIds.clear();
+        for (Person person : persons) {
+            ids.put(person, personsById.size());
+            personsById.add(person);
+        }
+    }
+
+    /**
+     * Adds {@code person}, which must have an id, to the indexes.
+     */
+    private void index(Person person) {
+        nameIndex.put(toIndexKey(person), person);
+        normalizedNameCounts.merge(person.getName().getNormalizedName(), 1, Integer::sum);
+        nameTrigramIndex.add(person);
+        for (String word : person.getCompany().getLowerCaseWords()) {
+            companyWordIndex.add(word, person);
+        }
+        int id = ids.get(person);
+        bitmapIndex.set(id, person);
+        meetingIndex.add(person);
+        phoneTrie.add(person);
+        nameBkTree.add(person);
+        indexVersion++;
+        if (id >= indexVersionsById.length) {
+            indexVersionsById = Arrays.copyOf(indexVersionsById, Math.max(id + 1, indexVersionsById.length * 2));
+        }
+        indexVersionsById[id] = indexVersion;
+    }
+
+    /**
+     * Removes {@code person}, which must still have its id, from the indexes.
+     */
+    private void unindex(Person person) {
+        nameIndex.remove(toIndexKey(person));
+        String normalizedName = person.getName().getNormalizedName();
+        normalizedNameCounts.computeIfPresent(normalizedName, (key, count) -> count == 1 ? null : count - 1);
+        nameTrigramIndex.remove(person);
+        for (String word : person.getCompany().getLowerCaseWords()) {
+            companyWordIndex.remove(word, person);
+        }
+        bitmapIndex.clear(ids.get(person), person);
+        meetingIndex.remove(person);
+        phoneTrie.remove(person);
+        nameBkTree.remove(person);
+        indexVersion++;
+    }
+
+    /**
+     * Replaces the contents of the search indexes with {@code persons}.
+     */
+    private void rebuildSearchIndexes(List<Person> persons) {
+        nameTrigramIndex.clear();
+        companyWordIndex.clear();
+        bitmapIndex.clearAll();
+        meetingIndex.clear();
+        phoneTrie.clear();
+        nameBkTree.clear();
+        for (Person person : persons) {
+            nameTrigramIndex.add(person);
+            for (String word : person.getCompany().getLowerCaseWords()) {
+                companyWordIndex.add(word, person);
             }
+            bitmapIndex.set(ids.get(person), person);
+            meetingIndex.add(person);
+            phoneTrie.add(person);
+            nameBkTree.add(person);
         }
-        return true;
+        indexVersion++;
+        indexVersionsById = new long[Math.max(16, persons.size())];
+        Arrays.fill(indexVersionsById, indexVersion);
+    }
+
+    private static String toIndexKey(Person person) {
+        return person.getName().getLowerCaseName();
+    }
+
+    /**
+     * Returns the key under which a person named {@code name} is stored in the name index.
+     * Names that are equal ignoring case map to the same key.
+     */
+    private static String toIndexKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,187 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A query over persons: a condition on a single field, or conditions joined by AND, OR and NOT.
+ * Queries are planned by {@link QueryPlanner} to use the indexes of the address book where they can.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    /**
+     * A condition on a single field, e.g. {@code tag:investor}.
+     * The label of a condition names what it tests, so conditions with the same label are equal.
+     */
+    public static class Field extends Query {
+        private final String label;
+        private final Predicate<Person> predicate;
+
+        /**
+         * Creates a condition shown as {@code label} that holds for persons satisfying {@code predicate}.
+         */
+        public Field(String label, Predicate<Person> predicate) {
+            requireAllNonNull(label, predicate);
+            this.label = label;
+            this.predicate = predicate;
+        }
+
+        /**
+         * Returns the index-aware predicate of this condition, or null if no index can answer it.
+         */
+        public IndexedPersonPredicate getIndexedPredicate() {
+            return predicate instanceof IndexedPersonPredicate ? (IndexedPersonPredicate) predicate : null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Field)) {
+                return false;
+            }
+
+            Field otherField = (Field) other;
+            return label.equals(otherField.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return label.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * Conditions that must all hold.
+     */
+    public static class And extends Query {
+        private final List<Query> children;
+
+        /**
+         * Creates a query that holds when all of {@code children} hold.
+         */
+        public And(List<Query> children) {
+            requireNonNull(children);
+            this.children = new ArrayList<>(children);
+        }
+
+        public List<Query> getChildren() {
+            return children;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return children.stream().allMatch(child -> child.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And && children.equals(((And) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(Query::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Conditions of which at least one must hold.
+     */
+    public static class Or extends Query {
+        private final List<Query> children;
+
+        /**
+         * Creates a query that holds when any of {@code children} holds.
+         */
+        public Or(List<Query> children) {
+            requireNonNull(children);
+            this.children = new ArrayList<>(children);
+        }
+
+        public List<Query> getChildren() {
+            return children;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return children.stream().anyMatch(child -> child.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or && children.equals(((Or) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(Query::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * A condition that must not hold.
+     */
+    public static class Not extends Query {
+        private final Query child;
+
+        /**
+         * Creates a query that holds when {@code child} does not.
+         */
+        public Not(Query child) {
+            requireNonNull(child);
+            this.child = child;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !child.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && child.equals(((Not) other).child));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~child.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A way of finding the persons in a {@code UniquePersonList} that satisfy a {@code Query}, chosen by
+ * {@link QueryPlanner}. Costs are estimated in persons visited, whether by an index or by testing them one by one.
+ */
+public abstract class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    private final Query query;
+
+    QueryPlan(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    /**
+     * Returns the query this plan finds the persons of.
+     */
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the persons that satisfy the planned query, compared by identity.
+     */
+    public abstract Set<Person> execute();
+
+    /**
+     * Returns an estimate of the number of persons that {@link #execute()} returns. It is never too low.
+     */
+    public abstract int getEstimatedRows();
+
+    /**
+     * Returns an estimate of the number of persons visited by {@link #execute()}.
+     */
+    public abstract int getEstimatedCost();
+
+    /**
+     * Returns the steps of this plan, one per line, with the steps of each part indented below it.
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder();
+        describeTo(builder, "");
+        return builder.toString();
+    }
+
+    abstract void describeTo(StringBuilder builder, String indent);
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Looks up the persons satisfying a field condition in an index.
+     */
+    static class IndexLookup extends QueryPlan {
+        private final Query.Field field;
+        private final IndexedPersonPredicate predicate;
+        private final UniquePersonList persons;
+        private final int estimatedRows;
+
+        IndexLookup(Query.Field field, IndexedPersonPredicate predicate, UniquePersonList persons) {
+            super(field);
+            requireAllNonNull(predicate, persons);
+            this.field = field;
+            this.predicate = predicate;
+            this.persons = persons;
+            this.estimatedRows = predicate.estimateMatches(persons);
+        }
+
+        @Override
+        public Set<Person> execute() {
+            return predicate.findMatches(persons);
+        }
+
+        @Override
+        public int getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        @Override
+        public int getEstimatedCost() {
+            return Math.max(1, estimatedRows);
+        }
+
+        @Override
+        void describeTo(StringBuilder builder, String indent) {
+            builder.append(String.format("%sLook up %s in index (about %d)\n", indent, field, estimatedRows));
+        }
+    }
+
+    /**
+     * Tests every person against a query.
+     */
+    static class Scan extends QueryPlan {
+        private final UniquePersonList persons;
+
+        Scan(Query query, UniquePersonList persons) {
+            super(query);
+            requireNonNull(persons);
+            this.persons = persons;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> matches = newIdentitySet();
+            for (Person person : persons) {
+                if (getQuery().test(person)) {
+                    matches.add(person);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        public int getEstimatedRows() {
+            return persons.size();
+        }
+
+        @Override
+        public int getEstimatedCost() {
+            return persons.size();
+        }
+
+        @Override
+        void describeTo(StringBuilder builder, String indent) {
+            builder.append(String.format("%sScan all %d contacts for %s\n", indent, persons.size(), getQuery()));
+        }
+    }
+
+    /**
+     * Intersects the persons found by a driving plan with those found by other plans, then tests the remaining
+     * conditions on the persons left.
+     */
+    static class Intersection extends QueryPlan {
+        private final QueryPlan driver;
+        private final List<QueryPlan> lookups;
+        private final List<Query> residuals;
+
+        Intersection(Query query, QueryPlan driver, List<QueryPlan> lookups, List<Query> residuals) {
+            super(query);
+            requireAllNonNull(driver, lookups, residuals);
+            this.driver = driver;
+            this.lookups = new ArrayList<>(lookups);
+            this.residuals = new ArrayList<>(residuals);
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> matches = newIdentitySet();
+            matches.addAll(driver.execute());
+            for (QueryPlan lookup : lookups) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                matches.retainAll(lookup.execute());
+            }
+            matches.removeIf(person -> !residuals.stream().allMatch(residual -> residual.test(person)));
+            return matches;
+        }
+
+        @Override
+        public int getEstimatedRows() {
+            int estimatedRows = driver.getEstimatedRows();
+            for (QueryPlan lookup : lookups) {
+                estimatedRows = Math.min(estimatedRows, lookup.getEstimatedRows());
+            }
+            return estimatedRows;
+        }
+
+        @Override
+        public int getEstimatedCost() {
+            int estimatedCost = driver.getEstimatedCost();
+            for (QueryPlan lookup : lookups) {
+                estimatedCost += lookup.getEstimatedCost();
+            }
+            if (!residuals.isEmpty()) {
+                estimatedCost += getEstimatedRows();
+            }
+            return estimatedCost;
+        }
+
+        @Override
+        void describeTo(StringBuilder builder, String indent) {
+            builder.append(String.format("%sIntersect (about %d)\n", indent, getEstimatedRows()));
+            driver.describeTo(builder, indent + INDENT);
+            for (QueryPlan lookup : lookups) {
+                lookup.describeTo(builder, indent + INDENT);
+            }
+            for (Query residual : residuals) {
+                builder.append(String.format("%sCheck %s on each candidate\n", indent + INDENT, residual));
+            }
+        }
+    }
+
+    /**
+     * Combines the persons found by several plans.
+     */
+    static class Union extends QueryPlan {
+        private final List<QueryPlan> children;
+        private final int size;
+
+        Union(Query query, List<QueryPlan> children, int size) {
+            super(query);
+            requireNonNull(children);
+            this.children = new ArrayList<>(children);
+            this.size = size;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> matches = newIdentitySet();
+            for (QueryPlan child : children) {
+                matches.addAll(child.execute());
+            }
+            return matches;
+        }
+
+        @Override
+        public int getEstimatedRows() {
+            int estimatedRows = 0;
+            for (QueryPlan child : children) {
+                estimatedRows += child.getEstimatedRows();
+            }
+            return Math.min(size, estimatedRows);
+        }
+
+        @Override
+        public int getEstimatedCost() {
+            int estimatedCost = 0;
+            for (QueryPlan child : children) {
+                estimatedCost += child.getEstimatedCost();
+            }
+            return estimatedCost;
+        }
+
+        @Override
+        void describeTo(StringBuilder builder, String indent) {
+            builder.append(String.format("%sCombine (about %d)\n", indent, getEstimatedRows()));
+            for (QueryPlan child : children) {
+                child.describeTo(builder, indent + INDENT);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Chooses how to find the persons satisfying a {@code Query} using the indexes of a {@code UniquePersonList}.
+ *
+ * Field conditions that an index can answer are looked up. For the conditions joined by AND, the lookup expected to
+ * find the fewest persons drives the plan; the other lookups are intersected with it only if they are expected to
+ * visit fewer persons than it finds, and every other condition is tested on the persons left. Conditions joined by
+ * OR are combined if each of them can be looked up. Anything else, and any plan costlier than testing every person,
+ * falls back to a scan of the whole list.
+ */
+public class QueryPlanner {
+
+    /**
+     * Returns the cheapest plan found for {@code query} over {@code persons}.
+     */
+    public static QueryPlan plan(Query query, UniquePersonList persons) {
+        requireAllNonNull(query, persons);
+        QueryPlan scan = new QueryPlan.Scan(query, persons);
+        QueryPlan plan = planWithIndexes(query, persons);
+        return plan != null && plan.getEstimatedCost() <= scan.getEstimatedCost() ? plan : scan;
+    }
+
+    /**
+     * Returns a plan for {@code query} that uses at least one index, or null if none can be used.
+     */
+    private static QueryPlan planWithIndexes(Query query, UniquePersonList persons) {
+        if (query instanceof Query.Field) {
+            Query.Field field = (Query.Field) query;
+            IndexedPersonPredicate predicate = field.getIndexedPredicate();
+            return predicate == null ? null : new QueryPlan.IndexLookup(field, predicate, persons);
+        }
+        if (query instanceof Query.And) {
+            return planIntersection((Query.And) query, persons);
+        }
+        if (query instanceof Query.Or) {
+            return planUnion((Query.Or) query, persons);
+        }
+        return null;
+    }
+
+    private static QueryPlan planIntersection(Query.And query, UniquePersonList persons) {
+        List<QueryPlan> indexedPlans = new ArrayList<>();
+        List<Query> residuals = new ArrayList<>();
+        for (Query child : query.getChildren()) {
+            QueryPlan childPlan = planWithIndexes(child, persons);
+            if (childPlan == null) {
+                residuals.add(child);
+            } else {
+                indexedPlans.add(childPlan);
+            }
+        }
+        if (indexedPlans.isEmpty()) {
+            return null;
+        }
+
+        indexedPlans.sort(Comparator.comparingInt(QueryPlan::getEstimatedRows));
+        QueryPlan driver = indexedPlans.get(0);
+        List<QueryPlan> lookups = new ArrayList<>();
+        for (QueryPlan indexedPlan : indexedPlans.subList(1, indexedPlans.size())) {
+            if (indexedPlan.getEstimatedCost() <= driver.getEstimatedRows()) {
+                lookups.add(indexedPlan);
+            } else {
+                residuals.add(indexedPlan.getQuery());
+            }
+        }
+        if (lookups.isEmpty() && residuals.isEmpty()) {
+            return driver;
+        }
+        return new QueryPlan.Intersection(query, driver, lookups, residuals);
+    }
+
+    private static QueryPlan planUnion(Query.Or query, UniquePersonList persons) {
+        List<QueryPlan> childPlans = new ArrayList<>();
+        for (Query child : query.getChildren()) {
+            QueryPlan childPlan = planWithIndexes(child, persons);
+            if (childPlan == null) {
+                return null;
+            }
+            childPlans.add(childPlan);
+        }
+        return childPlans.size() == 1 ? childPlans.get(0) : new QueryPlan.Union(query, childPlans, persons.size());
+    }
+}
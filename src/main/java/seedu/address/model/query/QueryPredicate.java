@@ -0,0 +1,98 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Tests that a {@code Person} satisfies a {@code Query}.
+ * Matches are found by the plan that {@link QueryPlanner} chooses for the query. The plan is kept until the indexes
+ * of the list it was made for change, so estimating and then finding the matches plans the query only once.
+ */
+public class QueryPredicate implements IndexedPersonPredicate {
+    private final Query query;
+    private volatile PlannedQuery plannedQuery;
+
+    /**
+     * Creates a predicate that holds for persons satisfying {@code query}.
+     */
+    public QueryPredicate(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return query.test(person);
+    }
+
+    @Override
+    public Set<Person> findMatches(UniquePersonList persons) {
+        return getPlan(persons).execute();
+    }
+
+    @Override
+    public int estimateMatches(UniquePersonList persons) {
+        return getPlan(persons).getEstimatedRows();
+    }
+
+    /**
+     * Returns the plan for the query over {@code persons}, planning it again only if the indexes of {@code persons}
+     * have changed since it was last planned.
+     */
+    private QueryPlan getPlan(UniquePersonList persons) {
+        PlannedQuery currentPlannedQuery = plannedQuery;
+        if (currentPlannedQuery == null || currentPlannedQuery.persons != persons
+                || currentPlannedQuery.indexVersion != persons.getIndexVersion()) {
+            currentPlannedQuery = new PlannedQuery(persons, persons.getIndexVersion(),
+                    QueryPlanner.plan(query, persons));
+            plannedQuery = currentPlannedQuery;
+        }
+        return currentPlannedQuery.plan;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPredicate)) {
+            return false;
+        }
+
+        QueryPredicate otherQueryPredicate = (QueryPredicate) other;
+        return query.equals(otherQueryPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+
+    /**
+     * A plan for the query, and the list and version of its indexes it was made for.
+     */
+    private static class PlannedQuery {
+        private final UniquePersonList persons;
+        private final long indexVersion;
+        private final QueryPlan plan;
+
+        private PlannedQuery(UniquePersonList persons, long indexVersion, QueryPlan plan) {
+            this.persons = persons;
+            this.indexVersion = indexVersion;
+            this.plan = plan;
+        }
+    }
+}
@@ -22,8 +22,8 @@ import seedu.address.model.tag.Tag;
  */
 public class SampleDataUtil {
 
-    public static final Company EMPTY_COMPANY = new Company("");
-    public static final Priority EMPTY_PRIORITY = new Priority("");
+    public static final Company EMPTY_COMPANY = Company.of("");
+    public static final Priority EMPTY_PRIORITY = Priority.of("");
     public static final Remark EMPTY_REMARK = new Remark("");
     public static final Meeting EMPTY_MEETING = new Meeting("", "", "", "");
 
@@ -70,7 +70,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons of an address book, to be saved later while the address book goes on changing.
+ * Unlike copying the address book itself, taking a snapshot only copies the list of persons, without building any of
+ * the indexes an {@code AddressBook} keeps for searching. The persons themselves are shared, as they are immutable.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long modificationCount;
+
+    /**
+     * Creates a snapshot of the persons currently in {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        modificationCount = addressBook.getModificationCount();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+}
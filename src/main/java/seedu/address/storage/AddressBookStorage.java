@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save accepted by this storage has been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
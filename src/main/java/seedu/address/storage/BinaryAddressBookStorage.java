@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ *
+ * A snapshot holds a header, a table of length-prefixed UTF-8 strings, the string indexes of every person's tags,
+ * and one fixed-width record per person that refers to its strings and tags by index. Repeated values such as
+ * company names and tags are stored once. Snapshots are loaded by memory-mapping the file and decoding the records in
+ * place. Files saved as JSON can still be read, so an existing address book can be switched to this format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Address book snapshot is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot version %d is not supported.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int MAGIC = 0x41424B53; // "ABKS"
+    private static final int VERSION = 1;
+
+    // Layout of a person record
+    private static final int RECORD_SIZE = 48;
+    private static final int NAME_OFFSET = 0;
+    private static final int PHONE_OFFSET = 4;
+    private static final int EMAIL_OFFSET = 8;
+    private static final int ADDRESS_OFFSET = 12;
+    private static final int COMPANY_OFFSET = 16;
+    private static final int REMARK_OFFSET = 20;
+    private static final int MEETING_DESC_OFFSET = 24;
+    private static final int MEETING_EPOCH_DAY_OFFSET = 28;
+    private static final int MEETING_START_MINUTE_OFFSET = 32;
+    private static final int MEETING_END_MINUTE_OFFSET = 34;
+    private static final int FIRST_TAG_OFFSET = 36;
+    private static final int TAG_COUNT_OFFSET = 40;
+    private static final int PRIORITY_OFFSET = 44;
+    private static final int FLAGS_OFFSET = 45;
+
+    private static final int NO_EPOCH_DAY = Integer.MIN_VALUE;
+    private static final short NO_MINUTE = -1;
+    private static final byte STARRED_FLAG = 1;
+    private static final List<String> PRIORITY_LEVELS = Arrays.asList("", "med", "high");
+
+    private Path filePath;
+    private int backupCount;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath}, keeping {@code backupCount}
+     * previous versions of the file.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the file as JSON if it is not a binary snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isSnapshot(filePath)) {
+                logger.info(filePath + " is not a binary snapshot, reading it as JSON");
+                return Optional.of(JsonAddressBookStreamer.read(filePath));
+            }
+            return Optional.of(readSnapshot(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in a single step, so a crash while saving leaves the previous version intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, backupCount, out -> writeSnapshot(addressBook.getPersonList(), out));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing to flush.
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     */
+    static boolean isSnapshot(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining()) {
+                if (channel.read(magic) < 0) {
+                    return false;
+                }
+            }
+            return magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the binary snapshot at {@code filePath} by memory-mapping it.
+     *
+     * @throws IllegalValueException if the snapshot is corrupted or there were any data constraints violated.
+     */
+    static AddressBook readSnapshot(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        List<Person> persons;
+        try {
+            buffer.getInt(); // magic number
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int stringCount = buffer.getInt();
+            int tagRefCount = buffer.getInt();
+            int personCount = buffer.getInt();
+            if (stringCount < 0 || tagRefCount < 0 || personCount < 0
+                    || buffer.remaining() < (long) stringCount * Integer.BYTES) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            if (buffer.remaining() != (long) tagRefCount * Integer.BYTES + (long) personCount * RECORD_SIZE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            int[] tagRefs = new int[tagRefCount];
+            buffer.asIntBuffer().get(tagRefs);
+
+            int recordsOffset = buffer.position() + tagRefCount * Integer.BYTES;
+            Tag[] tags = new Tag[stringCount];
+            persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(decodePerson(buffer, recordsOffset + i * RECORD_SIZE, strings, tagRefs, tags));
+            }
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Decodes the person record at {@code offset}. Tags are created once per distinct name and cached in
+     * {@code tags}.
+     */
+    private static Person decodePerson(ByteBuffer buffer, int offset, String[] strings, int[] tagRefs, Tag[] tags) {
+        int epochDay = buffer.getInt(offset + MEETING_EPOCH_DAY_OFFSET);
+        Meeting meeting = new Meeting(strings[buffer.getInt(offset + MEETING_DESC_OFFSET)],
+                epochDay == NO_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay),
+                toTime(buffer.getShort(offset + MEETING_START_MINUTE_OFFSET)),
+                toTime(buffer.getShort(offset + MEETING_END_MINUTE_OFFSET)));
+
+        int firstTag = buffer.getInt(offset + FIRST_TAG_OFFSET);
+        int tagCount = buffer.getInt(offset + TAG_COUNT_OFFSET);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = firstTag; i < firstTag + tagCount; i++) {
+            int tagIndex = tagRefs[i];
+            if (tags[tagIndex] == null) {
+                tags[tagIndex] = Tag.of(strings[tagIndex]);
+            }
+            personTags.add(tags[tagIndex]);
+        }
+
+        return new Person(new Name(strings[buffer.getInt(offset + NAME_OFFSET)]),
+                new Phone(strings[buffer.getInt(offset + PHONE_OFFSET)]),
+                new Email(strings[buffer.getInt(offset + EMAIL_OFFSET)]),
+                new Address(strings[buffer.getInt(offset + ADDRESS_OFFSET)]),
+                Company.of(strings[buffer.getInt(offset + COMPANY_OFFSET)]),
+                meeting,
+                Priority.of(PRIORITY_LEVELS.get(buffer.get(offset + PRIORITY_OFFSET))),
+                (buffer.get(offset + FLAGS_OFFSET) & STARRED_FLAG) != 0,
+                new Remark(strings[buffer.getInt(offset + REMARK_OFFSET)]),
+                personTags);
+    }
+
+    private static void writeSnapshot(List<Person> persons, OutputStream stream) throws IOException {
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int tagRefCount = 0;
+        for (Person person : persons) {
+            for (String value : getStrings(person)) {
+                stringIndexes.computeIfAbsent(value, unused -> {
+                    strings.add(value);
+                    return strings.size() - 1;
+                });
+            }
+            tagRefCount += person.getTags().size();
+        }
+
+        try (DataOutputStream out = new DataOutputStream(stream)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            out.writeInt(tagRefCount);
+            out.writeInt(persons.size());
+
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            for (Person person : persons) {
+                for (Tag tag : person.getTags()) {
+                    out.writeInt(stringIndexes.get(tag.tagName));
+                }
+            }
+
+            int firstTag = 0;
+            for (Person person : persons) {
+                Meeting meeting = person.getMeeting();
+                out.writeInt(stringIndexes.get(person.getName().fullName));
+                out.writeInt(stringIndexes.get(person.getPhone().value));
+                out.writeInt(stringIndexes.get(person.getEmail().value));
+                out.writeInt(stringIndexes.get(person.getAddress().value));
+                out.writeInt(stringIndexes.get(person.getCompany().value));
+                out.writeInt(stringIndexes.get(person.getRemark().value));
+                out.writeInt(stringIndexes.get(meeting.desc));
+                out.writeInt(meeting.date == null ? NO_EPOCH_DAY : (int) meeting.date.toEpochDay());
+                out.writeShort(toMinute(meeting.start));
+                out.writeShort(toMinute(meeting.end));
+                out.writeInt(firstTag);
+                out.writeInt(person.getTags().size());
+                out.writeByte(PRIORITY_LEVELS.indexOf(person.getPriority().value));
+                out.writeByte(person.isStarred() ? STARRED_FLAG : 0);
+                out.writeShort(0); // reserved
+                firstTag += person.getTags().size();
+            }
+        }
+    }
+
+    /**
+     * Returns the strings of {@code person} that are stored in the string table.
+     */
+    private static List<String> getStrings(Person person) {
+        List<String> values = new ArrayList<>(Arrays.asList(person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value, person.getCompany().value,
+                person.getRemark().value, person.getMeeting().desc));
+        person.getTags().forEach(tag -> values.add(tag.tagName));
+        return values;
+    }
+
+    private static short toMinute(LocalTime time) {
+        return time == null ? NO_MINUTE : (short) (time.toSecondOfDay() / 60);
+    }
+
+    private static LocalTime toTime(short minute) {
+        return minute == NO_MINUTE ? null : LocalTime.ofSecondOfDay(minute * 60L);
+    }
+
+}
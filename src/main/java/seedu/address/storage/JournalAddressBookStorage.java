@@ -0,0 +1,563 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves changes by appending them to a journal kept next to a JSON snapshot.
+ * Snapshots are written in the JSON format given, keeping as many previous versions of the snapshot as asked for.
+ * They cannot be binary, as a snapshot records the last journal record it includes.
+ *
+ * Each save appends a record for every person added, edited or removed since the last save, forcing the journal to
+ * disk before returning. Reading replays the journal on top of the snapshot. Once the journal grows past a size
+ * threshold, it is folded into a new snapshot in the background.
+ *
+ * The changes are recorded as they happen, by listening to the person list of the address book saved last, so a save
+ * of that address book takes time in proportion to the number of changes rather than to the number of persons. An
+ * address book whose changes were not recorded, such as a copy of the one read, is instead compared person by person
+ * with the one saved last.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+    public static final String MESSAGE_BINARY_FORMAT = "Journal snapshots cannot be saved as binary snapshots";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+
+    private final Path filePath;
+    private final DataFormat format;
+    private final int backupCount;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The state of savedFilePath and its journal as of the last read or save, guarded by this
+    private Path savedFilePath;
+    private long lastSequence;
+    private long journalSize;
+    private long generation;
+    private boolean isCompacting;
+
+    // The persons as of the last read or save, if they have not been changed since through trackedPersons
+    private List<Person> savedPersons;
+    private Set<Person> savedPersonSet;
+
+    // The person list of the address book last read or saved, and the changes made to it since, guarded by this
+    private final ListChangeListener<Person> changeTracker = this::trackChanges;
+    private ObservableList<Person> trackedPersons;
+    private final List<PersonChange> unsavedChanges = new ArrayList<>();
+    private final Map<Person, PersonChange> unsavedChangesByPerson = new IdentityHashMap<>();
+    private boolean hasUntrackableChange;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DataFormat.PRETTY_JSON, 0, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that writes snapshots in the given JSON {@code format}, keeping
+     * {@code backupCount} previous versions of the snapshot.
+     */
+    public JournalAddressBookStorage(Path filePath, DataFormat format, int backupCount) {
+        this(filePath, format, backupCount, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that writes snapshots in the given JSON {@code format}, keeping
+     * {@code backupCount} previous versions of the snapshot, and compacts the journal once it exceeds
+     * {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, DataFormat format, int backupCount, long compactionThreshold) {
+        checkArgument(format != DataFormat.BINARY, MESSAGE_BINARY_FORMAT);
+        this.filePath = filePath;
+        this.format = format;
+        this.backupCount = backupCount;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot is read in whichever format it was saved in, including binary snapshots and compressed JSON, so
+     * that an address book saved without a journal can be switched to one. Such a snapshot includes no records.
+     * An incomplete record at the end of the journal, left by a save that was cut short, is discarded.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook addressBook = new AddressBook();
+            long[] snapshotSequence = {0};
+            if (Files.exists(filePath) && BinaryAddressBookStorage.isSnapshot(filePath)) {
+                logger.info(filePath + " is a binary snapshot, reading it as such");
+                addressBook = BinaryAddressBookStorage.readSnapshot(filePath);
+            } else if (Files.exists(filePath)) {
+                addressBook = JsonAddressBookStreamer.read(filePath, sequence -> snapshotSequence[0] = sequence);
+            }
+            long sequence = replayJournal(journalPath, addressBook, snapshotSequence[0]);
+            rememberSaved(filePath, addressBook.getPersonList(), sequence,
+                    Files.exists(journalPath) ? Files.size(journalPath) : 0);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes a full snapshot instead of appending to the journal if {@code filePath} was not the last location read
+     * or saved, if the persons were reordered, or if the changes cannot otherwise be replayed one by one.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(savedFilePath)) {
+            // The journal may belong to an older snapshot, so it must go before the new snapshot is written
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            saveSnapshot(addressBook, filePath, 0);
+            return;
+        }
+
+        ObservableList<Person> persons = addressBook.getPersonList();
+        boolean isTracked = persons == trackedPersons;
+        Optional<List<JsonAdaptedJournalRecord>> records = getChangesSinceSaved(persons, isTracked)
+                .flatMap(this::toRecords);
+        if (!records.isPresent()) {
+            saveSnapshot(addressBook, filePath, lastSequence + 1);
+            return;
+        }
+        if (records.get().isEmpty()) {
+            if (!isTracked) {
+                rememberSaved(filePath, persons, lastSequence, journalSize);
+            }
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records.get()) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        appendDurably(getJournalFilePath(filePath), bytes);
+
+        long sequence = records.get().get(records.get().size() - 1).getSequence();
+        if (isTracked) {
+            forgetSavedPersons();
+            lastSequence = sequence;
+            journalSize += bytes.length;
+        } else {
+            rememberSaved(filePath, persons, sequence, journalSize + bytes.length);
+        }
+
+        if (journalSize > compactionThreshold && !isCompacting) {
+            isCompacting = true;
+            ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+            long snapshotSequence = lastSequence;
+            long snapshotGeneration = generation;
+            compactor.execute(() -> compact(snapshot, filePath, snapshotSequence, snapshotGeneration));
+        }
+    }
+
+    /**
+     * Blocks until a background compaction, if any, has finished.
+     * Saves are already on disk when they return, so there is nothing else to flush.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Returns the changes that turn the persons last saved into {@code persons}, in the order they were made, or an
+     * empty optional if the change cannot be expressed as records, e.g. because persons were reordered.
+     *
+     * @param isTracked true if {@code persons} is the list whose changes have been recorded since the last save.
+     */
+    private Optional<List<PersonChange>> getChangesSinceSaved(List<Person> persons, boolean isTracked) {
+        if (isTracked) {
+            return hasUntrackableChange ? Optional.empty() : Optional.of(unsavedChanges);
+        }
+        if (savedPersons == null) {
+            return Optional.empty();
+        }
+        return compareWithSaved(persons);
+    }
+
+    /**
+     * Returns the changes that turn the persons last saved into {@code persons}, found by comparing them person by
+     * person, or an empty optional if the change cannot be expressed as records, e.g. because persons were reordered.
+     * Persons are compared by identity, as a person is replaced by a new instance whenever it is edited.
+     */
+    private Optional<List<PersonChange>> compareWithSaved(List<Person> persons) {
+        Set<Person> personSet = toIdentitySet(persons);
+        List<PersonChange> changes = new ArrayList<>();
+        int savedIndex = 0;
+        int index = 0;
+        while (savedIndex < savedPersons.size() || index < persons.size()) {
+            Person saved = savedIndex < savedPersons.size() ? savedPersons.get(savedIndex) : null;
+            Person current = index < persons.size() ? persons.get(index) : null;
+            boolean isSavedRemoved = saved != null && !personSet.contains(saved);
+            boolean isCurrentAdded = current != null && !savedPersonSet.contains(current);
+
+            if (isSavedRemoved && isCurrentAdded) {
+                changes.add(new PersonChange(saved, current));
+                savedIndex++;
+                index++;
+            } else if (isSavedRemoved) {
+                changes.add(new PersonChange(saved, null));
+                savedIndex++;
+            } else if (isCurrentAdded && saved == null) {
+                changes.add(new PersonChange(null, current));
+                index++;
+            } else if (saved == current) {
+                savedIndex++;
+                index++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the journal records for {@code changes}, numbered on from the last record saved, or an empty optional
+     * if replaying them one by one could clash on a name.
+     *
+     * Removals come first, then edits, then additions, so that a name freed by a removal is free again by the time it
+     * is taken. An edit that takes the name another edit frees cannot be ordered safely this way.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> toRecords(List<PersonChange> changes) {
+        List<PersonChange> removals = new ArrayList<>();
+        List<PersonChange> edits = new ArrayList<>();
+        List<PersonChange> additions = new ArrayList<>();
+        Set<String> renamedFrom = new HashSet<>();
+        for (PersonChange change : changes) {
+            if (change.saved == change.current) {
+                continue;
+            } else if (change.current == null) {
+                removals.add(change);
+            } else if (change.saved == null) {
+                additions.add(change);
+            } else {
+                edits.add(change);
+                if (!isSameName(change.saved, change.current)) {
+                    renamedFrom.add(change.saved.getName().getLowerCaseName());
+                }
+            }
+        }
+        for (PersonChange edit : edits) {
+            if (!isSameName(edit.saved, edit.current)
+                    && renamedFrom.contains(edit.current.getName().getLowerCaseName())) {
+                return Optional.empty();
+            }
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        long sequence = lastSequence;
+        for (List<PersonChange> group : List.of(removals, edits, additions)) {
+            for (PersonChange change : group) {
+                records.add(new JsonAdaptedJournalRecord(++sequence, change.saved, change.current));
+            }
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Records the changes to the tracked person list as they happen, coalescing those made to the same person.
+     * Runs on whichever thread changes the list.
+     */
+    private synchronized void trackChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                hasUntrackableChange = true;
+            } else if (!change.wasUpdated()) {
+                trackReplacement(change);
+            }
+        }
+    }
+
+    /**
+     * Records the persons removed and added by {@code change}. A removed person and an added person at the same
+     * position are recorded as an edit, which the journal replays in place. Any other added person can only be
+     * replayed at the end of the list.
+     */
+    private void trackReplacement(ListChangeListener.Change<? extends Person> change) {
+        List<? extends Person> removed = change.getRemoved();
+        List<? extends Person> added = change.getAddedSubList();
+        int editedSize = Math.min(removed.size(), added.size());
+        for (int i = 0; i < editedSize; i++) {
+            trackChange(removed.get(i), added.get(i));
+        }
+        for (int i = editedSize; i < removed.size(); i++) {
+            trackChange(removed.get(i), null);
+        }
+        if (added.size() > editedSize && change.getTo() != change.getList().size()) {
+            hasUntrackableChange = true;
+            return;
+        }
+        for (int i = editedSize; i < added.size(); i++) {
+            trackChange(null, added.get(i));
+        }
+    }
+
+    /**
+     * Records that {@code before} was replaced by {@code after}, where either may be null for a person added or
+     * removed.
+     */
+    private void trackChange(Person before, Person after) {
+        PersonChange change = before == null ? null : unsavedChangesByPerson.remove(before);
+        if (change == null) {
+            change = new PersonChange(before, after);
+            unsavedChanges.add(change);
+        }
+        change.current = after;
+        if (after != null) {
+            unsavedChangesByPerson.put(after, change);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} that come after {@code sequence} to
+     * {@code addressBook}, and returns the sequence number of the last record applied.
+     */
+    private static long replayJournal(Path journalPath, AddressBook addressBook, long sequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return sequence;
+        }
+
+        String journal = FileUtil.readFromFile(journalPath);
+        int end = journal.lastIndexOf('\n') + 1;
+        if (end < journal.length()) {
+            logger.warning("Discarding incomplete last record of " + journalPath);
+            journal = journal.substring(0, end);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(journal.getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+
+        for (String line : journal.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            if (record.getSequence() > sequence) {
+                record.applyTo(addressBook);
+                sequence = record.getSequence();
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code addressBook} and starts a new journal for it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long sequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, backupCount,
+                out -> JsonAddressBookStreamer.write(addressBook, sequence, out, format));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        rememberSaved(filePath, addressBook.getPersonList(), sequence, 0);
+    }
+
+    /**
+     * Writes {@code snapshot} over the snapshot at {@code filePath}, then drops the journal records it includes.
+     * Runs on the compactor thread only, and gives up if a full save or a read has happened in the meantime.
+     */
+    private void compact(ReadOnlyAddressBook snapshot, Path filePath, long sequence, long snapshotGeneration) {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        try {
+            FileUtil.writeAtomically(tempPath, 0,
+                out -> JsonAddressBookStreamer.write(snapshot, sequence, out, format));
+            synchronized (this) {
+                if (snapshotGeneration != generation) {
+                    Files.deleteIfExists(tempPath);
+                    return;
+                }
+                // Records up to sequence are skipped once the snapshot is in place, so the journal can follow later
+                FileUtil.replaceAtomically(filePath, tempPath, backupCount);
+                journalSize = dropRecordsUpTo(getJournalFilePath(filePath), sequence);
+            }
+            logger.fine("Compacted journal of " + filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the journal at {@code journalPath} without the records up to {@code sequence}, and returns its new size.
+     */
+    private static long dropRecordsUpTo(Path journalPath, long sequence) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        StringBuilder remaining = new StringBuilder();
+        for (String line : FileUtil.readFromFile(journalPath).split("\n")) {
+            if (!line.isEmpty()
+                    && JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).getSequence() > sequence) {
+                remaining.append(line).append('\n');
+            }
+        }
+        FileUtil.writeToFile(journalPath, remaining.toString());
+        return Files.size(journalPath);
+    }
+
+    /**
+     * Remembers that the persons in {@code persons} are saved at {@code filePath}, up to the record numbered
+     * {@code sequence}, and starts recording the changes made to {@code persons} from now on.
+     */
+    private void rememberSaved(Path filePath, ObservableList<Person> persons, long sequence, long journalSize) {
+        savedFilePath = filePath;
+        savedPersons = new ArrayList<>(persons);
+        savedPersonSet = toIdentitySet(persons);
+        lastSequence = sequence;
+        this.journalSize = journalSize;
+        generation++;
+
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeTracker);
+        }
+        trackedPersons = persons;
+        trackedPersons.addListener(changeTracker);
+        forgetUnsavedChanges();
+    }
+
+    /**
+     * Forgets the persons last saved, once the changes to them are journaled, as they are no longer needed to find
+     * the changes made to the tracked person list.
+     */
+    private void forgetSavedPersons() {
+        savedPersons = null;
+        savedPersonSet = null;
+        forgetUnsavedChanges();
+    }
+
+    private void forgetUnsavedChanges() {
+        unsavedChanges.clear();
+        unsavedChangesByPerson.clear();
+        hasUntrackableChange = false;
+    }
+
+    private static boolean isSameName(Person first, Person second) {
+        return first.getName().getLowerCaseName().equals(second.getName().getLowerCaseName());
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> personSet = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 2));
+        personSet.addAll(persons);
+        return personSet;
+    }
+
+    private static void appendDurably(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * A person last saved and the person that has replaced it since, where {@code saved} is null for a person added
+     * and {@code current} is null for a person removed.
+     */
+    private static class PersonChange {
+        private final Person saved;
+        private Person current;
+
+        PersonChange(Person saved, Person current) {
+            this.saved = saved;
+            this.current = current;
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of a single change to the persons of an address book, as kept in a journal.
+ *
+ * A record with only {@code removed} deletes that person, a record with only {@code person} appends that person, and
+ * a record with both replaces the former with the latter in place.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_EMPTY_RECORD = "Journal record %d does not contain any change.";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal record %d refers to a missing person: %s";
+
+    private final long sequence;
+    private final String removed;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence, @JsonProperty("removed") String removed,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.sequence = sequence;
+        this.removed = removed;
+        this.person = person;
+    }
+
+    /**
+     * Converts a change of the given persons into this class for Jackson use.
+     *
+     * @param removed the person removed or replaced, or null if {@code added} is a new person.
+     * @param added the person added or replacing {@code removed}, or null if {@code removed} was deleted.
+     */
+    public JsonAdaptedJournalRecord(long sequence, Person removed, Person added) {
+        this(sequence, removed == null ? null : removed.getName().fullName,
+                added == null ? null : new JsonAdaptedPerson(added));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the change does not fit the address book or the person is invalid.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        Person target = null;
+        if (removed != null) {
+            target = addressBook.findPersonByName(removed).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, sequence, removed)));
+        }
+
+        if (person == null) {
+            if (target == null) {
+                throw new IllegalValueException(String.format(MESSAGE_EMPTY_RECORD, sequence));
+            }
+            addressBook.removePerson(target);
+            return;
+        }
+
+        Person modelPerson = person.toModelType();
+        try {
+            if (target == null) {
+                addressBook.addPerson(modelPerson);
+            } else {
+                addressBook.setPerson(target, modelPerson);
+            }
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+}
@@ -128,7 +128,7 @@ class JsonAdaptedPerson {
         if (company == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Company.class.getSimpleName()));
         }
-        final Company modelCompany = new Company(company);
+        final Company modelCompany = Company.of(company);
 
         if (meeting == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Meeting.class.getSimpleName()));
@@ -140,7 +140,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Priority.class.getSimpleName()));
         }
-        final Priority modelPriority = new Priority(priority);
+        final Priority modelPriority = Priority.of(priority);
 
         final Remark modelRemark = new Remark("");
 
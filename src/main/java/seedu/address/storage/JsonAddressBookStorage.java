@@ -1,17 +1,19 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config.DataFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,12 +21,28 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_BINARY_FORMAT = "Binary snapshots are saved by BinaryAddressBookStorage";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private DataFormat format;
+    private int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DataFormat.PRETTY_JSON, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} in the given {@code format}, keeping
+     * {@code backupCount} previous versions of the file.
+     * Files are read in whichever format they were saved in, including binary snapshots.
+     */
+    public JsonAddressBookStorage(Path filePath, DataFormat format, int backupCount) {
+        checkArgument(format != DataFormat.BINARY, MESSAGE_BINARY_FORMAT);
         this.filePath = filePath;
+        this.format = format;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +63,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookStorage.isSnapshot(filePath)) {
+                logger.info(filePath + " is a binary snapshot, reading it as such");
+                return Optional.of(BinaryAddressBookStorage.readSnapshot(filePath));
+            }
+            return Optional.of(JsonAddressBookStreamer.read(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -66,6 +89,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in a single step, so a crash while saving leaves the previous version intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +97,13 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, backupCount, out -> JsonAddressBookStreamer.write(addressBook, out, format));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing to flush.
     }
 
 }
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.Config.DataFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads and writes an address book as JSON one person at a time, in the same format as
+ * {@link JsonSerializableAddressBook}. The JSON may be pretty-printed, compact, or compact and gzip-compressed.
+ *
+ * Each person is converted as soon as it is parsed, or just before it is written, so neither the whole file nor a
+ * list of {@code JsonAdaptedPerson} is ever held in memory.
+ */
+class JsonAddressBookStreamer {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String LAST_SEQUENCE_FIELD = "lastSequence";
+
+    /**
+     * Reads the address book stored as JSON at {@code filePath}, decompressing it first if it is gzip-compressed.
+     * Fields other than the persons are skipped.
+     *
+     * @throws IOException if the file could not be read or does not contain a JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, unused -> { });
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but also passes the number of the last journal record included in the file, if
+     * the file was saved as a journal snapshot, to {@code lastSequenceReader}.
+     */
+    public static AddressBook read(Path filePath, LongConsumer lastSequenceReader)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(openDecompressed(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY && PERSONS_FIELD.equals(fieldName)) {
+                    readPersons(parser, persons);
+                } else if (token == JsonToken.VALUE_NUMBER_INT && LAST_SEQUENCE_FIELD.equals(fieldName)) {
+                    lastSequenceReader.accept(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the given {@code format}, and closes {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, DataFormat format)
+            throws IOException {
+        write(addressBook, OptionalLong.empty(), out, format);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a journal snapshot that includes the journal records up to
+     * {@code lastSequence}, in the given {@code format}, and closes {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long lastSequence, OutputStream out, DataFormat format)
+            throws IOException {
+        write(addressBook, OptionalLong.of(lastSequence), out, format);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, OptionalLong lastSequence, OutputStream out,
+            DataFormat format) throws IOException {
+        if (format == DataFormat.GZIP_JSON) {
+            out = new GZIPOutputStream(out);
+        }
+
+        try (JsonGenerator generator = format == DataFormat.PRETTY_JSON
+                ? JsonUtil.createGenerator(out)
+                : JsonUtil.createCompactGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (lastSequence.isPresent()) {
+                generator.writeNumberField(LAST_SEQUENCE_FIELD, lastSequence.getAsLong());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Opens {@code filePath} for reading, decompressing its content if it starts with the gzip magic number.
+     */
+    private static InputStream openDecompressed(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+        in.mark(2);
+        int magic = in.read() | (in.read() << 8);
+        in.reset();
+        if (magic != GZIPInputStream.GZIP_MAGIC) {
+            return in;
+        }
+
+        try {
+            return new GZIPInputStream(in);
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Converts each element of the persons array that {@code parser} is at the start of, and adds it to
+     * {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons)
+            throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a person object");
+            }
+            persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves in the background on behalf of another {@code AddressBookStorage}.
+ *
+ * Each save takes a snapshot of the persons in the address book and returns immediately. A single writer thread then
+ * saves the latest snapshot for each file, so a burst of saves is written to disk only once.
+ *
+ * If a background save fails, the error is logged and the snapshot stays pending, to be written again after a delay,
+ * by the next save, or by {@link #flushAddressBook()}, whichever comes first. The error is reported on its own, to a
+ * failure handler, rather than thrown by whichever unrelated save comes next. The handler is told of the first error
+ * only, until the file is written again. Only {@link #flushAddressBook()}, which must not return before the data is
+ * on disk, throws the error if the snapshot still cannot be written.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    /** Seconds to wait before writing a snapshot again after failing to write it. */
+    public static final long RETRY_DELAY_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final BiConsumer<Path, IOException> failureHandler;
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new ConcurrentHashMap<>();
+    private final Map<Path, IOException> failedSaves = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that saves to {@code addressBookStorage} in the background, and
+     * only logs the failures of background saves.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, (filePath, cause) -> { });
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that saves to {@code addressBookStorage} in the background, and
+     * reports the file and cause of a background save that fails to {@code failureHandler}, on the writer thread.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage,
+            BiConsumer<Path, IOException> failureHandler) {
+        requireAllNonNull(addressBookStorage, failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but waits for pending saves to be written first.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            awaitPendingSaves();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved to {@code filePath} and returns without waiting for it.
+     * A failure to write it is reported to the failure handler instead of being thrown.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        pendingSaves.put(filePath, new AddressBookSnapshot(addressBook));
+        writer.execute(this::writePendingSaves);
+    }
+
+    /**
+     * Blocks until all scheduled saves have been written, trying those that failed once more.
+     *
+     * @throws IOException if a background save still fails.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitPendingSaves();
+        for (Path filePath : failedSaves.keySet()) {
+            rethrowFailedSave(filePath);
+        }
+    }
+
+    /**
+     * Writes the latest snapshot scheduled for each file. A snapshot that fails to be written stays pending, unless a
+     * later one has been scheduled in the meantime, and is tried again after a delay. Runs on the writer thread only.
+     */
+    private void writePendingSaves() {
+        for (Path filePath : List.copyOf(pendingSaves.keySet())) {
+            ReadOnlyAddressBook snapshot = pendingSaves.remove(filePath);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                addressBookStorage.saveAddressBook(snapshot, filePath);
+                failedSaves.remove(filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save address book to " + filePath + ", trying again in "
+                        + RETRY_DELAY_SECONDS + " seconds: " + ioe);
+                if (failedSaves.put(filePath, ioe) == null) {
+                    failureHandler.accept(filePath, ioe);
+                }
+                if (pendingSaves.putIfAbsent(filePath, snapshot) == null) {
+                    writer.schedule(this::writePendingSaves, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                }
+            }
+        }
+    }
+
+    private void awaitPendingSaves() throws IOException {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    private void rethrowFailedSave(Path filePath) throws IOException {
+        IOException ioe = failedSaves.remove(filePath);
+        if (ioe != null) {
+            throw ioe;
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +13,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Tells the user that the address book could not be saved to {@code filePath} in the background, because of
+     * {@code cause}. May be called from any thread.
+     */
+    void showSaveFailure(Path filePath, IOException cause);
+
 }
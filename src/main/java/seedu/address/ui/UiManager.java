@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -50,6 +52,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(Path filePath, IOException cause) {
+        Platform.runLater(() -> showAlertDialogAndWait(AlertType.WARNING, "Save failed",
+                "Could not save the address book to " + filePath,
+                cause + "\nSaving will be tried again in a few seconds, and when the app is closed."));
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
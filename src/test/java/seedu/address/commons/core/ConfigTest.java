@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveInBackground=" + config.isSaveInBackground()
+                + ", saveToJournal=" + config.isSaveToJournal()
+                + ", addressBookFormat=" + config.getAddressBookFormat()
+                + ", addressBookBackupCount=" + config.getAddressBookBackupCount()
+                + ", filterParallelThreshold=" + config.getFilterParallelThreshold() + "}";
         assertEquals(expected, config.toString());
     }
 
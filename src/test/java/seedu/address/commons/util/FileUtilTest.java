@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,33 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_withBackups_keepsPreviousVersions() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (String content : new String[] {"v1", "v2", "v3", "v4"}) {
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes("UTF-8")));
+        }
+
+        assertEquals("v4", FileUtil.readFromFile(file));
+        assertEquals("v3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("v2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_previousContentKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 0, out -> {
+            out.write("partial".getBytes("UTF-8"));
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -0,0 +1,34 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    private final Interner<String, Tag> interner = new Interner<>(Tag::new);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_sameInstance() {
+        Tag friends = interner.intern("friends");
+        assertSame(friends, interner.intern(new String("friends")));
+        assertNotSame(friends, interner.intern("colleagues"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingAdded() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("not a tag"));
+        assertEquals(0, interner.size());
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -197,6 +200,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+                -> StringUtil.toLowerCaseWords(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+                -> StringUtil.toLowerCaseWords(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void toLowerCaseWords_validWords_trimmedAndLowerCase() {
+        assertEquals(List.of("abc", "def"), Arrays.asList(StringUtil.toLowerCaseWords(List.of(" ABc", "def\t"))));
+        assertEquals(List.of(), Arrays.asList(StringUtil.toLowerCaseWords(List.of())));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
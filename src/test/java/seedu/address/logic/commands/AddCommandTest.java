@@ -9,8 +9,12 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +26,14 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.MutableAddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -152,11 +160,37 @@ public class AddCommandTest {
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Optional<Person> findPersonByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSimilarPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> suggestPersonsByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getMeetingsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getMeetingsOverlapping(Meeting meeting) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +201,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<MutableAddressBook> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
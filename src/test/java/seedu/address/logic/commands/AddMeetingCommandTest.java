@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -39,8 +40,10 @@ public class AddMeetingCommandTest {
         AddMeetingCommand addMeetingCommand = new AddMeetingCommand(editedPerson.getName().fullName,
                 new Meeting(details[0], details[1], details[2], details[3]));
 
+        // The meeting overlaps the one with Alice
         String expectedMessage = String.format(AddMeetingCommand.MESSAGE_ADD_MEETING_SUCCESS,
-                editedPerson.getName().fullName, editedPerson.getMeeting().toString());
+                editedPerson.getName().fullName, editedPerson.getMeeting().toString())
+                + String.format(AddMeetingCommand.MESSAGE_MEETING_OVERLAP, ALICE.getName(), ALICE.getMeeting());
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(firstPerson, editedPerson);
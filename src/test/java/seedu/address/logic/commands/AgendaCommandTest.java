@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.MeetingBetweenPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AgendaCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AgendaCommand marchAgendaCommand = new AgendaCommand(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+        assertTrue(marchAgendaCommand.equals(marchAgendaCommand));
+        assertTrue(marchAgendaCommand.equals(new AgendaCommand(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31))));
+        assertTrue(new AgendaCommand().equals(new AgendaCommand()));
+        assertFalse(marchAgendaCommand.equals(null));
+        assertFalse(marchAgendaCommand.equals(new AgendaCommand()));
+    }
+
+    @Test
+    public void execute_allMeetings_listedInTimeOrder() {
+        Person earlyCarl = new PersonBuilder(CARL).withMeeting("Coffee: 1 January 2024 (0900 - 1000)").build();
+        model.setPerson(CARL, earlyCarl);
+        expectedModel.setPerson(CARL, earlyCarl);
+        expectedModel.updateFilteredPersonList(person -> person.getMeeting().isScheduled());
+
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS,
+                "1. Coffee: 1 January 2024 (0900 - 1000) with Carl Kurz\n"
+                + "2. Interview: 23 March 2024 (1500 - 1600) with Alice Pauline\n"
+                + "3. Networking Event: 11 April 2024 (1400 - 1600) with Benson Meier");
+        assertCommandSuccess(new AgendaCommand(), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, earlyCarl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_dateRange_onlyMeetingsInRangeListed() {
+        AgendaCommand command = new AgendaCommand(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 11));
+        expectedModel.updateFilteredPersonList(new MeetingBetweenPredicate(LocalDate.of(2024, 4, 1),
+                LocalDate.of(2024, 4, 11)));
+
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS,
+                "1. Networking Event: 11 April 2024 (1400 - 1600) with Benson Meier");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMeetingsInRange_noMeetingsFound() {
+        AgendaCommand command = new AgendaCommand(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, AgendaCommand.MESSAGE_NO_MEETINGS_FOUND, expectedModel);
+    }
+}
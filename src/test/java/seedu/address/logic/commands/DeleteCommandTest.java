@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -46,6 +47,13 @@ public class DeleteCommandTest {
                 String.format(DeleteCommand.MESSAGE_PERSON_NOT_FOUND, "Nonexistent Person"));
     }
 
+    @Test
+    public void execute_misspeltName_suggestsSimilarNames() {
+        DeleteCommand deleteCommand = new DeleteCommand("Alcie Pauline");
+        assertCommandFailure(deleteCommand, model, String.format(DeleteCommand.MESSAGE_PERSON_NOT_FOUND,
+                "Alcie Pauline") + String.format(Messages.MESSAGE_NAME_SUGGESTIONS, ALICE.getName().fullName));
+    }
+
     @Test
     public void execute_validNameFilteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
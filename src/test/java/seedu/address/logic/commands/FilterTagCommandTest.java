@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterTagCommandTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag INVESTOR = new Tag("investor");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterTagCommand friendsCommand = new FilterTagCommand(predicateOf(Set.of(FRIENDS)));
+
+        assertTrue(friendsCommand.equals(friendsCommand));
+        assertTrue(friendsCommand.equals(new FilterTagCommand(predicateOf(Set.of(FRIENDS)))));
+        assertFalse(friendsCommand.equals(null));
+        assertFalse(friendsCommand.equals(new FilterTagCommand(predicateOf(Set.of(OWES_MONEY)))));
+    }
+
+    @Test
+    public void execute_and_personsWithAllTagsFound() {
+        TagExpressionPredicate predicate = predicateOf(Set.of(FRIENDS, OWES_MONEY));
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(FilterTagCommand.MESSAGE_SUCCESS, 1, "contact");
+        assertCommandSuccess(new FilterTagCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_or_personsWithAnyClauseFound() {
+        Person investorCarl = new PersonBuilder(CARL).withTags("investor").build();
+        model.setPerson(CARL, investorCarl);
+        expectedModel.setPerson(CARL, investorCarl);
+
+        TagExpressionPredicate predicate = predicateOf(Set.of(FRIENDS), Set.of(INVESTOR));
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(FilterTagCommand.MESSAGE_SUCCESS, 4, "contacts");
+        assertCommandSuccess(new FilterTagCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, investorCarl, DANIEL), model.getFilteredPersonList());
+
+        // The tag index follows later edits
+        model.deletePerson(BENSON);
+        Person exFriendAlice = new PersonBuilder(ALICE).withTags().build();
+        model.setPerson(ALICE, exFriendAlice);
+        assertEquals(Arrays.asList(investorCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatchingTags_noContactsFound() {
+        TagExpressionPredicate predicate = predicateOf(Set.of(INVESTOR, FRIENDS));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FilterTagCommand(predicate), model, FilterTagCommand.MESSAGE_NO_CONTACTS_FOUND,
+                expectedModel);
+        assertEquals(Arrays.asList(), model.getFilteredPersonList());
+    }
+
+    @SafeVarargs
+    private static TagExpressionPredicate predicateOf(Set<Tag>... clauses) {
+        return new TagExpressionPredicate(List.of(clauses));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+public class FindPhoneCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindPhoneCommand findFirstCommand = new FindPhoneCommand("9482");
+
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+        assertTrue(findFirstCommand.equals(new FindPhoneCommand("9482")));
+        assertFalse(findFirstCommand.equals(null));
+        assertFalse(findFirstCommand.equals(new FindPhoneCommand("948")));
+    }
+
+    @Test
+    public void execute_prefix_multiplePersonsFound() {
+        String expectedMessage = String.format(FindPhoneCommand.MESSAGE_FIND_PHONE_SUCCESS, 3, "contacts", "9482");
+        expectedModel.updateFilteredPersonList(new PhonePrefixPredicate("9482"));
+        assertCommandSuccess(new FindPhoneCommand("9482"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fullNumber_onePersonFound() {
+        String phone = FIONA.getPhone().value;
+        String expectedMessage = String.format(FindPhoneCommand.MESSAGE_FIND_PHONE_SUCCESS, 1, "contact", phone);
+        expectedModel.updateFilteredPersonList(new PhonePrefixPredicate(phone));
+        assertCommandSuccess(new FindPhoneCommand(phone), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownPrefix_noPersonFound() {
+        String expectedMessage = String.format(FindPhoneCommand.MESSAGE_FIND_PHONE_SUCCESS, 0, "contacts", "000");
+        expectedModel.updateFilteredPersonList(new PhonePrefixPredicate("000"));
+        assertCommandSuccess(new FindPhoneCommand("000"), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPredicate;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandTest {
+
+    private static final Query FRIENDS_NAMED_MEIER = new Query.And(List.of(
+            new Query.Field("tag:friends", new TagExpressionPredicate(List.of(Set.of(new Tag("friends"))))),
+            new Query.Field("name:meier", new NameContainsKeywordsPredicate(List.of("meier")))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand queryCommand = new QueryCommand(FRIENDS_NAMED_MEIER, false);
+
+        assertTrue(queryCommand.equals(queryCommand));
+        assertTrue(queryCommand.equals(new QueryCommand(FRIENDS_NAMED_MEIER, false)));
+        assertFalse(queryCommand.equals(null));
+        assertFalse(queryCommand.equals(new QueryCommand(FRIENDS_NAMED_MEIER, true)));
+        assertFalse(queryCommand.equals(new QueryCommand(new Query.Not(FRIENDS_NAMED_MEIER), false)));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsFound() {
+        String expectedMessage = String.format(QueryCommand.MESSAGE_SUCCESS, 2, "contacts");
+        expectedModel.updateFilteredPersonList(new QueryPredicate(FRIENDS_NAMED_MEIER));
+        assertCommandSuccess(new QueryCommand(FRIENDS_NAMED_MEIER, false), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        QueryPlan plan = expectedModel.planQuery(FRIENDS_NAMED_MEIER);
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EXPLAIN, plan.getEstimatedCost(),
+                plan.describe());
+        assertCommandSuccess(new QueryCommand(FRIENDS_NAMED_MEIER, true), model, expectedMessage, expectedModel);
+    }
+}
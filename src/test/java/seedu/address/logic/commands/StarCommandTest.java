@@ -34,7 +34,7 @@ public class StarCommandTest {
     @Test
     public void execute_alreadyStarred_throwsCommandException() {
         Person personToStar = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        personToStar.starContact();
+        model.setPerson(personToStar, new PersonBuilder(personToStar).withStar(true).build());
         StarCommand starCommand = new StarCommand(personToStar.getName().fullName);
 
         assertCommandFailure(starCommand, model, "Error! Contact is already starred: "
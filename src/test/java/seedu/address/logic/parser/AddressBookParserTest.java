@@ -7,13 +7,16 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CountCommand;
@@ -23,11 +26,14 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterHighPriorityCommand;
 import seedu.address.logic.commands.FilterMedPriorityCommand;
+import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCompanyCommand;
+import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PriorityCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.StarCommand;
 import seedu.address.logic.commands.ViewMeetingCommand;
@@ -37,6 +43,9 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Priority;
 import seedu.address.model.person.Remark;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -89,6 +98,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ViewMeetingCommand.COMMAND_WORD + " 3") instanceof ViewMeetingCommand);
     }
 
+    @Test
+    public void parseCommand_filterTag() throws Exception {
+        assertEquals(new FilterTagCommand(new TagExpressionPredicate(List.of(Set.of(new Tag("friends"))))),
+                parser.parseCommand(FilterTagCommand.COMMAND_WORD + " t/friends"));
+    }
+
+    @Test
+    public void parseCommand_findPhone() throws Exception {
+        assertEquals(new FindPhoneCommand("6516"), parser.parseCommand(FindPhoneCommand.COMMAND_WORD + " 6516"));
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        Query query = new Query.Field("tag:friends", new TagExpressionPredicate(List.of(Set.of(new Tag("friends")))));
+        assertEquals(new QueryCommand(query, true),
+                parser.parseCommand(QueryCommand.COMMAND_WORD + " explain tag:friends"));
+    }
+
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        assertEquals(new AgendaCommand(), parser.parseCommand(AgendaCommand.COMMAND_WORD));
+        assertEquals(new AgendaCommand(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)),
+                parser.parseCommand(AgendaCommand.COMMAND_WORD + " 01-03-2024 31-03-2024"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+
+public class AgendaCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+
+    private AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsWholeAgenda() {
+        assertParseSuccess(parser, "   ", new AgendaCommand());
+    }
+
+    @Test
+    public void parse_validDates_returnsAgendaCommand() {
+        AgendaCommand expectedAgendaCommand = new AgendaCommand(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        assertParseSuccess(parser, "01-03-2024 31-03-2024", expectedAgendaCommand);
+
+        // multiple whitespaces between dates
+        assertParseSuccess(parser, " \n 01-03-2024 \t 31-03-2024  ", expectedAgendaCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // one date only
+        assertParseFailure(parser, "01-03-2024", MESSAGE_INVALID_FORMAT);
+
+        // invalid date
+        assertParseFailure(parser, "01-03-2024 32-03-2024", MESSAGE_INVALID_FORMAT);
+
+        // dates out of order
+        assertParseFailure(parser, "31-03-2024 01-03-2024", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterTagCommand;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterTagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE);
+
+    private FilterTagCommandParser parser = new FilterTagCommandParser();
+
+    @Test
+    public void parse_singleTag_success() {
+        assertParseSuccess(parser, " t/friends ", new FilterTagCommand(
+                new TagExpressionPredicate(List.of(Set.of(new Tag("friends"))))));
+    }
+
+    @Test
+    public void parse_andBeforeOr_success() {
+        FilterTagCommand expectedCommand = new FilterTagCommand(new TagExpressionPredicate(List.of(
+                Set.of(new Tag("investor"), new Tag("fintech")), Set.of(new Tag("founder")))));
+        assertParseSuccess(parser, "t/investor AND t/fintech OR t/founder", expectedCommand);
+
+        // operators are case-insensitive
+        assertParseSuccess(parser, "t/investor and t/fintech \n or t/founder", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+
+        // missing tag after operator
+        assertParseFailure(parser, "t/investor AND", MESSAGE_INVALID_FORMAT);
+
+        // unknown operator
+        assertParseFailure(parser, "t/investor XOR t/fintech", MESSAGE_INVALID_FORMAT);
+
+        // missing prefix
+        assertParseFailure(parser, "investor OR t/fintech", MESSAGE_INVALID_FORMAT);
+
+        // invalid tag name
+        assertParseFailure(parser, "t/fin-tech", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
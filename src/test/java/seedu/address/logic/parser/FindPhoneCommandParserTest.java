@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindPhoneCommand;
+
+public class FindPhoneCommandParserTest {
+
+    private FindPhoneCommandParser parser = new FindPhoneCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "6516 1234", expectedMessage);
+        assertParseFailure(parser, "+65", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPhoneCommand() {
+        assertParseSuccess(parser, " \n 6516 \t", new FindPhoneCommand("6516"));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.EmailContainsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFlag;
+import seedu.address.model.person.PersonFlagsPredicate;
+import seedu.address.model.person.PersonWithoutFlagsPredicate;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final Query FRIENDS =
+            new Query.Field("tag:friends", new TagExpressionPredicate(List.of(Set.of(new Tag("friends")))));
+    private static final Query ALICE =
+            new Query.Field("name:alice", new NameContainsKeywordsPredicate(List.of("alice")));
+    private static final Query STARRED =
+            new Query.Field("starred:yes", new PersonFlagsPredicate(List.of(PersonFlag.STARRED)));
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "explain", expectedMessage);
+        assertParseFailure(parser, "alice", expectedMessage);
+        assertParseFailure(parser, "name:", expectedMessage);
+        assertParseFailure(parser, "age:30", expectedMessage);
+        assertParseFailure(parser, "phone:+65", expectedMessage);
+        assertParseFailure(parser, "priority:low", expectedMessage);
+        assertParseFailure(parser, "meeting:31-02-2024", expectedMessage);
+        assertParseFailure(parser, "meeting:02-03-2024..01-03-2024", expectedMessage);
+        assertParseFailure(parser, "tag:friends AND", expectedMessage);
+        assertParseFailure(parser, "(tag:friends OR name:alice", expectedMessage);
+        assertParseFailure(parser, "tag:friends)", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsQueryCommand() {
+        assertParseSuccess(parser, " tag:friends ", new QueryCommand(FRIENDS, false));
+        assertParseSuccess(parser, "EXPLAIN tag:friends", new QueryCommand(FRIENDS, true));
+
+        // AND binds tighter than OR, and is implied between conditions
+        Query expected = new Query.Or(List.of(new Query.And(List.of(FRIENDS, ALICE)), STARRED));
+        assertParseSuccess(parser, "tag:friends and name:alice OR starred:yes", new QueryCommand(expected, false));
+        assertParseSuccess(parser, "tag:friends name:alice or starred:yes", new QueryCommand(expected, false));
+
+        // brackets and NOT
+        expected = new Query.And(List.of(FRIENDS, new Query.Not(new Query.Or(List.of(ALICE, STARRED)))));
+        assertParseSuccess(parser, "tag:friends AND NOT(name:alice OR starred:yes)",
+                new QueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_afterFailedParse_parsesFromStart() {
+        assertParseFailure(parser, "(tag:friends OR", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                QueryCommand.MESSAGE_USAGE));
+        assertParseSuccess(parser, "tag:friends", new QueryCommand(FRIENDS, false));
+    }
+
+    @Test
+    public void parse_emailAndMissingFlagConditions_returnsQueryCommand() {
+        Query expected = new Query.Or(List.of(new Query.And(List.of(
+                new Query.Field("email:example.com", new EmailContainsPredicate("example.com")),
+                new Query.Field("starred:no", new PersonWithoutFlagsPredicate(List.of(PersonFlag.STARRED))))),
+                new Query.Field("priority:none", new PersonWithoutFlagsPredicate(
+                        List.of(PersonFlag.HIGH_PRIORITY, PersonFlag.MED_PRIORITY)))));
+        assertParseSuccess(parser, "email:example.com starred:no OR priority:none",
+                new QueryCommand(expected, false));
+    }
+}
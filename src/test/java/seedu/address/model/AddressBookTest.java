@@ -7,19 +7,26 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -85,6 +92,148 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void hasSimilarPerson_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.hasSimilarPerson(null));
+    }
+
+    @Test
+    public void hasSimilarPerson_nameDiffersOnlyInSpacesAndCase_returnsTrue() {
+        addressBook.addPerson(ALICE);
+        Person similarAlice = new PersonBuilder().withName("alicepauline").build();
+        assertTrue(addressBook.hasSimilarPerson(similarAlice));
+    }
+
+    @Test
+    public void hasSimilarPerson_afterEditAndRemove_staysInSync() {
+        addressBook.addPerson(ALICE);
+        Person similarAlice = new PersonBuilder().withName("Alice  Pauline").build();
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertFalse(addressBook.hasSimilarPerson(similarAlice));
+
+        addressBook.addPerson(similarAlice);
+        addressBook.removePerson(similarAlice);
+        assertFalse(addressBook.hasSimilarPerson(similarAlice));
+        assertTrue(addressBook.hasSimilarPerson(renamedAlice));
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyWhenModified() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
+    @Test
+    public void batch_manyChanges_oneListChangeAndOneModification() {
+        addressBook.resetData(getTypicalAddressBook());
+        long initialCount = addressBook.getModificationCount();
+        List<Integer> changeCount = new ArrayList<>(List.of(0));
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                changeCount.set(0, changeCount.get(0) + 1));
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+
+        addressBook.batch(changes -> {
+            changes.removePerson(BENSON);
+            changes.setPerson(changes.findPersonByName("carl kurz").get(), editedCarl);
+            changes.addPerson(amy);
+            assertFalse(changes.hasPerson(BENSON));
+            assertThrows(DuplicatePersonException.class, () -> changes.addPerson(ALICE));
+            assertThrows(PersonNotFoundException.class, () -> changes.removePerson(CARL));
+        });
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(BENSON);
+        expectedPersons.set(expectedPersons.indexOf(CARL), editedCarl);
+        expectedPersons.add(amy);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(List.of(1), changeCount);
+        assertEquals(initialCount + 1, addressBook.getModificationCount());
+        assertEquals(Optional.of(amy), addressBook.findPersonByName("amy bee"));
+    }
+
+    @Test
+    public void batch_mostPersonsChanged_sameAsChangingOneByOne() {
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.removePerson(BENSON);
+        expectedAddressBook.setPerson(CARL, new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build());
+        expectedAddressBook.addPerson(ALICE);
+        expectedAddressBook.addPerson(new PersonBuilder().withName("Amy Bee").build());
+
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.batch(changes -> {
+            changes.removePerson(ALICE);
+            changes.removePerson(BENSON);
+            changes.setPerson(CARL, new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build());
+            changes.addPerson(ALICE);
+            changes.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        });
+        assertEquals(expectedAddressBook, addressBook);
+        assertTrue(addressBook.hasSimilarPerson(ALICE));
+        assertFalse(addressBook.hasPerson(BENSON));
+    }
+
+    @Test
+    public void batch_namesSwappedAndPersonsChangedTwice_onlyFinalChangesApplied() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person bensonAsAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        Person aliceAsBenson = new PersonBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person editedAmy = new PersonBuilder(amy).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.batch(changes -> {
+            Person bensonRenamed = new PersonBuilder(BENSON).withName("Someone Else").build();
+            changes.setPerson(BENSON, bensonRenamed);
+            changes.setPerson(ALICE, aliceAsBenson);
+            changes.setPerson(bensonRenamed, bensonAsAlice);
+            changes.addPerson(amy);
+            changes.setPerson(amy, editedAmy);
+            Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+            changes.setPerson(CARL, editedCarl);
+            changes.removePerson(editedCarl);
+            assertEquals(Optional.of(aliceAsBenson), changes.findPersonByName(BENSON.getName().fullName));
+        });
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.set(expectedPersons.indexOf(ALICE), aliceAsBenson);
+        expectedPersons.set(expectedPersons.indexOf(BENSON), bensonAsAlice);
+        expectedPersons.remove(CARL);
+        expectedPersons.add(editedAmy);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(Optional.of(bensonAsAlice), addressBook.findPersonByName(ALICE.getName().fullName));
+        assertEquals(Optional.of(editedAmy), addressBook.findPersonByName("amy bee"));
+        assertFalse(addressBook.hasPerson(CARL));
+    }
+
+    @Test
+    public void batch_changeFails_addressBookUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        long initialCount = addressBook.getModificationCount();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.batch(changes -> {
+            changes.removePerson(ALICE);
+            changes.addPerson(BENSON);
+        }));
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        // a batch without changes does not modify the address book either
+        addressBook.batch(changes -> changes.hasPerson(ALICE));
+        assertEquals(initialCount, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -110,6 +259,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
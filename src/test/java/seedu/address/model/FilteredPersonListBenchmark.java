@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times how long {@link FilteredPersonList#setPredicate} takes with the persons tested on one thread and in
+ * parallel, for lists of several sizes. It is not a test; run it by hand with
+ * {@code gradlew benchmark -Pbenchmark=seedu.address.model.FilteredPersonListBenchmark}, passing the sizes to try as
+ * {@code --args}, on the kind of machine the default of {@code Config#DEFAULT_FILTER_PARALLEL_THRESHOLD} is meant
+ * for.
+ *
+ * Two predicates are timed: a four-keyword name search, which is about as cheap as predicates get, and a
+ * case-insensitive regular expression over names, which is about as costly. The time reported for each is the best
+ * of several rounds, after as many rounds to warm up.
+ */
+public class FilteredPersonListBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 50_000, 100_000, 1_000_000};
+    private static final int ROUNDS = 5;
+
+    /**
+     * Prints the times for each size given in {@code args}, or for {@link #DEFAULT_SIZES} if none are given.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i].replace("_", ""));
+        }
+
+        Pattern pattern = Pattern.compile(".*(ab|cd|ef)[^ ]*e.*", Pattern.CASE_INSENSITIVE);
+        List<Predicate<Person>> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("alex", "bernice", "charlotte", "david")),
+                person -> pattern.matcher(person.getName().fullName).matches());
+
+        System.out.printf("%d processors available%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%12s %26s %26s%n", "size", "keywords seq/par (ms)", "regex seq/par (ms)");
+        for (int size : sizes) {
+            ObservableList<Person> source = FXCollections.observableArrayList(createPersons(size));
+            FilteredPersonList sequential = new FilteredPersonList(source, unused -> true, Integer.MAX_VALUE);
+            FilteredPersonList parallel = new FilteredPersonList(source, unused -> true, 1);
+
+            StringBuilder row = new StringBuilder(String.format("%,12d", size));
+            for (Predicate<Person> predicate : predicates) {
+                double sequentialMillis = time(sequential, predicate);
+                double parallelMillis = time(parallel, predicate);
+                row.append(String.format(" %26s", String.format(Locale.ROOT, "%.2f / %.2f",
+                        sequentialMillis, parallelMillis)));
+            }
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Returns the best time, in milliseconds, that {@code filteredPersons} took to switch from showing all persons to
+     * showing those that satisfy {@code predicate}.
+     */
+    private static double time(FilteredPersonList filteredPersons, Predicate<Person> predicate) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 2 * ROUNDS; round++) {
+            filteredPersons.setPredicate(person -> true);
+            long start = System.nanoTime();
+            filteredPersons.setPredicate(predicate);
+            long elapsed = System.nanoTime() - start;
+            if (round >= ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best / 1e6;
+    }
+
+    private static List<Person> createPersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder().withName(createWord(random) + " " + createWord(random) + " " + i)
+                    .build());
+        }
+        return persons;
+    }
+
+    private static String createWord(Random random) {
+        StringBuilder word = new StringBuilder().append((char) ('A' + random.nextInt(26)));
+        int length = 3 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+    private final List<Person> testedPersons = new ArrayList<>();
+
+    @Test
+    public void setPredicate_equalPredicate_testsNoPersons() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, recordTests(List.of("meier")));
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons);
+
+        testedPersons.clear();
+        filteredPersons.setPredicate(filteredPersons.getPredicate());
+        assertEquals(List.of(), testedPersons);
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_testsOnlyChangedPersons() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, recordTests(List.of("meier")));
+        Person amyMeier = new PersonBuilder().withName("Amy Meier").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+
+        testedPersons.clear();
+        source.add(0, amyMeier);
+        source.set(2, bob);
+        source.remove(CARL);
+        assertEquals(List.of(amyMeier, bob), testedPersons);
+        assertEquals(List.of(amyMeier, DANIEL), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_largeList_onlyChangedViewEntriesReported() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        source.setAll(persons);
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, recordTests(List.of("person")));
+        List<Integer> removedAt = new ArrayList<>();
+        List<Integer> addedAt = new ArrayList<>();
+        filteredPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    removedAt.add(change.getFrom() + i);
+                }
+                for (int i = change.getFrom(); i < change.getFrom() + change.getAddedSize(); i++) {
+                    addedAt.add(i);
+                }
+            }
+        });
+
+        // Each change to the source list is reported as a change to the one view entry affected, and only the
+        // persons added are tested
+        testedPersons.clear();
+        Person edited = new PersonBuilder().withName("Person Tan").build();
+        source.set(5000, edited);
+        source.remove(0);
+        Person added = new PersonBuilder().withName("Person Lim").build();
+        source.add(42, added);
+        assertEquals(List.of(5000, 0), removedAt);
+        assertEquals(List.of(5000, 42), addedAt);
+        assertEquals(List.of(edited, added), testedPersons);
+        assertEquals(edited, filteredPersons.get(5000));
+        assertEquals(source, filteredPersons);
+    }
+
+    @Test
+    public void refinePredicate_testsOnlyPersonsInView() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, recordTests(List.of("e")));
+        List<Person> personsInView = new ArrayList<>(filteredPersons);
+
+        testedPersons.clear();
+        filteredPersons.refinePredicate(recordTests(List.of("el")));
+        assertEquals(personsInView, testedPersons);
+        assertEquals(List.of(DANIEL, ELLE), filteredPersons);
+    }
+
+    @Test
+    public void randomChanges_sameAsFilteringSourceAndListenersKeptInSync() {
+        Random random = new Random(42);
+        source.clear();
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, unused -> true);
+        List<Person> mirror = new ArrayList<>();
+        filteredPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        List<String> letters = List.of("a", "b", "c");
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName(letters.get(random.nextInt(letters.size())) + " " + i).build();
+            int operation = source.isEmpty() ? 0 : random.nextInt(5);
+            if (operation == 0) {
+                source.add(random.nextInt(source.size() + 1), person);
+            } else if (operation == 1) {
+                source.set(random.nextInt(source.size()), person);
+            } else if (operation == 2) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 3) {
+                filteredPersons.setPredicate(
+                        new NameContainsKeywordsPredicate(List.of(letters.get(random.nextInt(letters.size())))));
+            } else {
+                filteredPersons.setPredicate(unused -> true);
+            }
+
+            List<Person> expected = source.stream().filter(filteredPersons.getPredicate())
+                    .collect(Collectors.toList());
+            assertEquals(expected, filteredPersons);
+            for (int j = 0; j < filteredPersons.size(); j++) {
+                assertEquals(j, filteredPersons.getViewIndex(filteredPersons.getSourceIndex(j)));
+            }
+        }
+        assertEquals(filteredPersons, mirror);
+    }
+
+    @Test
+    public void setPredicate_aboveParallelThreshold_sameAsSequential() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + Integer.toString(i, 7)).build());
+        }
+        source.setAll(persons);
+        FilteredPersonList sequentialPersons = new FilteredPersonList(source, unused -> true, Integer.MAX_VALUE);
+        FilteredPersonList parallelPersons = new FilteredPersonList(source, unused -> true, 1);
+        List<Person> mirror = new ArrayList<>(parallelPersons);
+        parallelPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        for (String keyword : List.of("1", "12", "123")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            sequentialPersons.setPredicate(predicate);
+            parallelPersons.refinePredicate(predicate);
+            assertEquals(sequentialPersons, parallelPersons);
+        }
+        parallelPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("6")));
+        sequentialPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("6")));
+        assertEquals(sequentialPersons, parallelPersons);
+        assertEquals(parallelPersons, mirror);
+    }
+
+    @Test
+    public void getViewIndex_personNotInView_returnsMinusOne() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, recordTests(List.of("meier")));
+        assertEquals(-1, filteredPersons.getViewIndex(source.indexOf(ALICE)));
+        assertEquals(1, filteredPersons.getViewIndex(source.indexOf(DANIEL)));
+    }
+
+    /**
+     * Returns a predicate that holds for persons whose name contains any of {@code keywords}, and records each
+     * person it tests.
+     */
+    private Predicate<Person> recordTests(List<String> keywords) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        return person -> {
+            testedPersons.add(person);
+            return predicate.test(person);
+        };
+    }
+}
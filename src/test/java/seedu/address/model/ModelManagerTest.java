@@ -7,16 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +92,78 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersonByName(null));
+    }
+
+    @Test
+    public void findPersonByName_personInFilteredList_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findPersonByName("alice PAULINE"));
+    }
+
+    @Test
+    public void findPersonByName_personHiddenByFilter_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(Optional.empty(), modelManager.findPersonByName(ALICE.getName().fullName));
+        assertEquals(Optional.of(BENSON), modelManager.findPersonByName(BENSON.getName().fullName));
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_followsLaterEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier", "zz")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // an edited name is matched against the updated index
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Fizz").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(renamedAlice, renamedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(renamedAlice);
+        assertEquals(Arrays.asList(renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_longerKeyword_narrowsCurrentResults() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("e")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("ei")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // a person added later is still tested against the refined keyword
+        Person carlMeier = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.addPerson(carlMeier);
+        assertEquals(Arrays.asList(ALICE, BENSON, carlMeier), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void suggestPersonsByName_typos_closestVisiblePersonsFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person alicia = new PersonBuilder().withName("Alicia Pauline").withPhone("81234567").build();
+        modelManager.addPerson(alicia);
+
+        assertEquals(Arrays.asList(ALICE, alicia), modelManager.suggestPersonsByName("alice paulin"));
+        assertEquals(Arrays.asList(BENSON), modelManager.suggestPersonsByName("Bensn Meir"));
+        assertEquals(Arrays.asList(), modelManager.suggestPersonsByName("Carl Kurz"));
+
+        // Persons hidden by the filter are not suggested
+        modelManager.updateFilteredPersonList(person -> person == alicia);
+        assertEquals(Arrays.asList(alicia), modelManager.suggestPersonsByName("alice paulin"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
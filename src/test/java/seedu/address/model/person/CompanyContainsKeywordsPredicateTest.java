@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +32,7 @@ public class CompanyContainsKeywordsPredicateTest {
         CompanyContainsKeywordsPredicate firstPredicateCopy =
                 new CompanyContainsKeywordsPredicate(firstPredicateKeywordList);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -78,6 +80,26 @@ public class CompanyContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void findMatches_sameAsTest() {
+        Person google = new PersonBuilder().withName("Amy").withCompany("Google Asia").build();
+        Person tiktok = new PersonBuilder().withName("Bob").withCompany("TikTok").build();
+        Person noCompany = new PersonBuilder().withName("Carl").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(google, tiktok, noCompany));
+
+        CompanyContainsKeywordsPredicate predicate = new CompanyContainsKeywordsPredicate(
+                Arrays.asList("asia", "TIKTOK", "Goo"));
+        assertEquals(Set.of(google, tiktok), predicate.findMatches(persons));
+
+        // Edited company names are looked up in the updated index
+        Person movedGoogle = new PersonBuilder(google).withCompany("Shopee").build();
+        persons.setPerson(google, movedGoogle);
+        assertEquals(Set.of(tiktok), predicate.findMatches(persons));
+        assertEquals(Set.of(movedGoogle), new CompanyContainsKeywordsPredicate(Arrays.asList("shopee"))
+                .findMatches(persons));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times how long matching contacts by name, company and similar name takes, and how much it allocates, with the
+ * lower-cased forms that {@code Name}, {@code Company} and {@code Email} precompute, against lower-casing the values
+ * again for every contact tested as was done before. It is not a test; run it by hand with
+ * {@code gradlew benchmark -Pbenchmark=seedu.address.model.person.KeywordMatchingBenchmark}.
+ *
+ * Each round makes a number of passes over the contacts, each pass checking every contact against a name search, a
+ * company search and a similar-name check, first the old way and then through the predicates.
+ */
+public class KeywordMatchingBenchmark {
+
+    private static final int CONTACTS = 20_000;
+    private static final int PASSES = 50;
+    private static final int ROUNDS = 3;
+    private static final String[] COMPANIES =
+        {"Google", "Tik Tok", "Meta Platforms", "Open Government Products", "Grab"};
+
+    /**
+     * Prints the time taken and the bytes allocated by each round.
+     */
+    public static void main(String[] args) {
+        List<Person> persons = new ArrayList<>(CONTACTS);
+        for (int i = 0; i < CONTACTS; i++) {
+            persons.add(new PersonBuilder().withName("Person Number" + i + " Meier").withPhone("9" + (1000000 + i))
+                    .withCompany(COMPANIES[i % COMPANIES.length]).build());
+        }
+        List<String> nameKeywords = List.of("meier", "bob");
+        List<String> companyKeywords = List.of("tok", "grab");
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(nameKeywords);
+        CompanyContainsKeywordsPredicate companyPredicate = new CompanyContainsKeywordsPredicate(companyKeywords);
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int matches = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startBytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Person person : persons) {
+                    matches += matchesRecomputed(person, nameKeywords, companyKeywords) ? 1 : 0;
+                }
+            }
+            long middle = System.nanoTime();
+            long middleBytes = threads.getThreadAllocatedBytes(threadId);
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Person person : persons) {
+                    matches += matchesPrecomputed(person, namePredicate, companyPredicate) ? 1 : 0;
+                }
+            }
+            long end = System.nanoTime();
+            long endBytes = threads.getThreadAllocatedBytes(threadId);
+
+            System.out.printf(Locale.ROOT, "recomputed: %d ms, %d MB allocated | precomputed: %d ms, %d MB allocated%n",
+                    (middle - start) / 1_000_000, (middleBytes - startBytes) >> 20,
+                    (end - middle) / 1_000_000, (endBytes - middleBytes) >> 20);
+        }
+        System.out.println("(" + matches + " matches)");
+    }
+
+    /**
+     * Matches {@code person} the way the predicates did before the lower-cased forms were precomputed.
+     */
+    private static boolean matchesRecomputed(Person person, List<String> nameKeywords, List<String> companyKeywords) {
+        boolean isNameMatch = nameKeywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        boolean isCompanyMatch = companyKeywords.stream()
+                .anyMatch(keyword -> StringUtil.containsFullWordIgnoreCase(person.getCompany().value, keyword));
+        boolean isSimilarName = person.getName().fullName.replaceAll("\\s", "").toLowerCase(Locale.ROOT)
+                .contains("numb");
+        return isNameMatch && isCompanyMatch || isSimilarName;
+    }
+
+    private static boolean matchesPrecomputed(Person person, NameContainsKeywordsPredicate namePredicate,
+            CompanyContainsKeywordsPredicate companyPredicate) {
+        boolean isNameMatch = namePredicate.test(person);
+        boolean isCompanyMatch = companyPredicate.test(person);
+        boolean isSimilarName = person.getName().getNormalizedName().contains("numb");
+        return isNameMatch && isCompanyMatch || isSimilarName;
+    }
+}
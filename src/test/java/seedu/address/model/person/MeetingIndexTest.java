@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 3, 1);
+
+    private final MeetingIndex index = new MeetingIndex();
+
+    @Test
+    public void queries_afterAddsAndRemoves_sameAsScan() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Person person = createPerson(i, random);
+            persons.add(person);
+            index.add(person);
+        }
+        for (int i = 0; i < 100; i++) {
+            index.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        assertEquals(scanBetween(persons, LocalDate.MIN, LocalDate.MAX),
+                index.getMeetingsBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(persons.stream().filter(person -> person.getMeeting().isScheduled()).count(),
+                index.countMeetingsBetween(LocalDate.MIN, LocalDate.MAX));
+        for (int i = 0; i < 50; i++) {
+            LocalDate from = FIRST_DAY.plusDays(random.nextInt(10));
+            LocalDate to = from.plusDays(random.nextInt(3));
+            assertEquals(scanBetween(persons, from, to), index.getMeetingsBetween(from, to));
+            assertEquals(scanBetween(persons, from, to).size(), index.countMeetingsBetween(from, to));
+
+            LocalDateTime start = from.atTime(random.nextInt(24), 0);
+            LocalDateTime end = start.plusMinutes(random.nextInt(240));
+            assertEquals(scanOverlapping(persons, start, end), index.getMeetingsOverlapping(start, end));
+        }
+    }
+
+    @Test
+    public void getMeetingsOverlapping_touchingMeetings_notOverlapping() {
+        Person person = new PersonBuilder().withMeeting("Interview: 1 March 2024 (1400 - 1500)").build();
+        index.add(person);
+
+        assertEquals(List.of(), index.getMeetingsOverlapping(FIRST_DAY.atTime(15, 0), FIRST_DAY.atTime(16, 0)));
+        assertEquals(List.of(), index.getMeetingsOverlapping(FIRST_DAY.atTime(13, 0), FIRST_DAY.atTime(14, 0)));
+        assertEquals(List.of(person), index.getMeetingsOverlapping(FIRST_DAY.atTime(14, 59),
+                FIRST_DAY.atTime(16, 0)));
+    }
+
+    @Test
+    public void add_unscheduledMeeting_notIndexed() {
+        index.add(new PersonBuilder().withMeeting("").build());
+        assertEquals(List.of(), index.getMeetingsBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    private static Person createPerson(int i, Random random) {
+        LocalTime start = LocalTime.of(random.nextInt(18), random.nextInt(4) * 15);
+        LocalTime end = start.plusMinutes(15 + random.nextInt(16) * 15);
+        Meeting meeting = new Meeting("Meeting " + i, FIRST_DAY.plusDays(random.nextInt(10)), start, end);
+        return new Person(new Name("Person " + i), new Phone("12345678"), new Email("a@example.com"),
+                new Address("Street"), new Company(""), meeting, new Priority(""), false, new Remark(""),
+                Set.of());
+    }
+
+    private static Comparator<Person> meetingOrder(List<Person> insertionOrder) {
+        return Comparator.<Person, LocalDateTime>comparing(person -> startOf(person))
+                .thenComparing(person -> endOf(person))
+                .thenComparingInt(insertionOrder::indexOf);
+    }
+
+    private static List<Person> scanBetween(List<Person> persons, LocalDate from, LocalDate to) {
+        return persons.stream()
+                .filter(person -> !person.getMeeting().date.isBefore(from) && !person.getMeeting().date.isAfter(to))
+                .sorted(meetingOrder(persons))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Person> scanOverlapping(List<Person> persons, LocalDateTime start, LocalDateTime end) {
+        return persons.stream()
+                .filter(person -> startOf(person).isBefore(end) && endOf(person).isAfter(start))
+                .sorted(meetingOrder(persons))
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDateTime startOf(Person person) {
+        return person.getMeeting().date.atTime(person.getMeeting().start);
+    }
+
+    private static LocalDateTime endOf(Person person) {
+        return person.getMeeting().date.atTime(person.getMeeting().end);
+    }
+}
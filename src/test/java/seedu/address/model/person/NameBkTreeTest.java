@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameBkTreeTest {
+
+    private final NameBkTree tree = new NameBkTree();
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, NameBkTree.editDistance("alice", "alice"));
+        assertEquals(1, NameBkTree.editDistance("alice", "alce"));
+        assertEquals(1, NameBkTree.editDistance("alice", "alise"));
+        assertEquals(2, NameBkTree.editDistance("alice", "alcie"));
+        assertEquals(5, NameBkTree.editDistance("", "alice"));
+        assertEquals(3, NameBkTree.editDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void getPersonsWithin_afterAddsAndRemoves_sameAsScan() {
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Person person = new PersonBuilder().withName(randomName(random) + " " + i).build();
+            persons.add(person);
+            tree.add(person);
+        }
+        // Remove enough persons for the tree to be rebuilt
+        for (int i = 0; i < 150; i++) {
+            tree.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        for (int i = 0; i < 30; i++) {
+            String query = persons.get(random.nextInt(persons.size())).getName().fullName.toUpperCase();
+            query = query.substring(1) + (char) ('a' + random.nextInt(26));
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertEquals(scan(persons, query, maxDistance), tree.getPersonsWithin(query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void add_sameNameDifferentCase_throwsDuplicatePersonException() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        tree.add(alice);
+        assertThrows(DuplicatePersonException.class, () -> tree.add(new PersonBuilder().withName("ALICE").build()));
+        assertEquals(List.of(alice), tree.getPersonsWithin("alice", 0));
+
+        tree.remove(alice);
+        assertEquals(List.of(), tree.getPersonsWithin("alice", 0));
+    }
+
+    @Test
+    public void add_removedName_foundAgain() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person renamedAmy = new PersonBuilder().withName("Amy Bee").withPhone("999").build();
+        tree.add(new PersonBuilder().withName("Bob Choo").build());
+        tree.add(amy);
+        tree.remove(amy);
+        assertEquals(List.of(), tree.getPersonsWithin("amy bee", 1));
+
+        tree.add(renamedAmy);
+        assertEquals(List.of(renamedAmy), tree.getPersonsWithin("amy bee", 1));
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 3 + random.nextInt(5); i++) {
+            name.append((char) ('a' + random.nextInt(4)));
+        }
+        return name.toString();
+    }
+
+    private static List<Person> scan(List<Person> persons, String query, int maxDistance) {
+        String key = query.toLowerCase();
+        return persons.stream()
+                .filter(person -> NameBkTree.editDistance(key, person.getName().fullName.toLowerCase()) <= maxDistance)
+                .sorted(Comparator.<Person>comparingInt(person ->
+                                NameBkTree.editDistance(key, person.getName().fullName.toLowerCase()))
+                        .thenComparing(person -> person.getName().fullName.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+}
@@ -28,6 +28,7 @@ public class NameContainsKeywordsPredicateTest {
         // same values -> returns true
         NameContainsKeywordsPredicate firstPredicateCopy = new NameContainsKeywordsPredicate(firstPredicateKeywordList);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -39,6 +40,21 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("al", "bo"));
+
+        // every keyword contains a keyword of the other predicate -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("alice", "bob")).refines(predicate));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("Sal")).refines(predicate));
+
+        // a keyword contains no keyword of the other predicate -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice", "carl")).refines(predicate));
+
+        // different type of predicate -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice")).refines(person -> true));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
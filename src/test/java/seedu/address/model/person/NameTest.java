@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,18 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getNormalizedName() {
+        assertEquals("peterjack", new Name("Peter Jack").getNormalizedName());
+        assertEquals("peterjack", new Name("peter  JACK").getNormalizedName());
+        assertEquals(new Name("PeterJack").getNormalizedName(), new Name("Peter Jack").getNormalizedName());
+    }
+
+    @Test
+    public void getLowerCaseName() {
+        assertEquals("peter  jack", new Name("Peter  JACK").getLowerCaseName());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
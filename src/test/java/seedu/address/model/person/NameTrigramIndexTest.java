@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void getPersonsWithNameContaining_invalidKeyword_throwsException() {
+        assertThrows(NullPointerException.class, () -> index.getPersonsWithNameContaining(null));
+        assertThrows(IllegalArgumentException.class, () -> index.getPersonsWithNameContaining("  "));
+        assertThrows(IllegalArgumentException.class, () -> index.getPersonsWithNameContaining("ier m"));
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_sameAsSubstringSearch() {
+        getTypicalPersons().forEach(index::add);
+
+        for (String keyword : Arrays.asList("a", "Al", "mei", "MEIER", "er", "enson", "xyz", "Kurz", "l")) {
+            Set<Person> expected = new HashSet<>();
+            for (Person person : getTypicalPersons()) {
+                if (StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)) {
+                    expected.add(person);
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.getPersonsWithNameContaining(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_trigramsInDifferentNames_onlyNamesWithAllTrigramsFound() {
+        Person anna = new PersonBuilder().withName("Annabel").build();
+        Person bella = new PersonBuilder().withName("Bella Anne").build();
+        Person annabella = new PersonBuilder().withName("Annabella").build();
+        index.add(anna);
+        index.add(bella);
+        index.add(annabella);
+
+        assertEquals(Set.of(annabella), index.getPersonsWithNameContaining("abella"));
+        assertEquals(Set.of(anna, annabella), index.getPersonsWithNameContaining("annab"));
+        assertTrue(index.getPersonsWithNameContaining("annebel").isEmpty());
+        assertTrue(index.countCandidates("abella") >= 1);
+    }
+
+    @Test
+    public void remove_personsAreNoLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.getPersonsWithNameContaining("meier"));
+
+        // removing a person that is equal but not the same leaves the indexed person in place
+        index.remove(new PersonBuilder(DANIEL).build());
+        assertEquals(Set.of(DANIEL), index.getPersonsWithNameContaining("meier"));
+
+        index.remove(DANIEL);
+        assertTrue(index.getPersonsWithNameContaining("meier").isEmpty());
+    }
+
+    @Test
+    public void clear_noPersonsFound() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.getPersonsWithNameContaining("al").isEmpty());
+        assertTrue(index.getPersonsWithNameContaining("alice").isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFlagsPredicateTest {
+
+    private static final PersonFlagsPredicate HIGH_AND_STARRED =
+            new PersonFlagsPredicate(List.of(PersonFlag.HIGH_PRIORITY, PersonFlag.STARRED));
+
+    @Test
+    public void equals() {
+        assertTrue(HIGH_AND_STARRED.equals(HIGH_AND_STARRED));
+        assertTrue(HIGH_AND_STARRED.equals(
+                new PersonFlagsPredicate(List.of(PersonFlag.STARRED, PersonFlag.HIGH_PRIORITY))));
+        assertFalse(HIGH_AND_STARRED.equals(null));
+        assertFalse(HIGH_AND_STARRED.equals(new PersonFlagsPredicate(List.of(PersonFlag.STARRED))));
+    }
+
+    @Test
+    public void test() {
+        assertTrue(HIGH_AND_STARRED.test(new PersonBuilder().withPriority("high").withStar(true).build()));
+        assertFalse(HIGH_AND_STARRED.test(new PersonBuilder().withPriority("high").withStar(false).build()));
+        assertFalse(HIGH_AND_STARRED.test(new PersonBuilder().withPriority("med").withStar(true).build()));
+        assertTrue(new PersonFlagsPredicate(List.of()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void findMatches_afterChanges_sameAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            personList.add(new PersonBuilder().withName("Person " + i)
+                    .withPriority(i % 3 == 0 ? "high" : "med").withStar(i % 2 == 0)
+                    .withCompany(i % 5 == 0 ? "Google" : "").build());
+        }
+        persons.setPersons(personList);
+        assertMatchesSameAsTest(persons);
+
+        // Removals move the bits of later persons down, including across words
+        persons.remove(personList.get(0));
+        persons.remove(personList.get(63));
+        persons.remove(personList.get(64));
+        persons.remove(personList.get(149));
+        assertMatchesSameAsTest(persons);
+
+        Person starred = personList.get(4);
+        persons.setPerson(starred, new PersonBuilder(starred).withStar(false).withPriority("high").build());
+        persons.add(new PersonBuilder().withName("Newcomer").withPriority("high").withStar(true).build());
+        assertMatchesSameAsTest(persons);
+    }
+
+    private void assertMatchesSameAsTest(UniquePersonList persons) {
+        for (PersonFlag flag : PersonFlag.values()) {
+            assertMatchesSameAsTest(new PersonFlagsPredicate(List.of(flag)), persons);
+        }
+        assertMatchesSameAsTest(HIGH_AND_STARRED, persons);
+        assertMatchesSameAsTest(new PersonFlagsPredicate(
+                List.of(PersonFlag.MED_PRIORITY, PersonFlag.STARRED, PersonFlag.HAS_COMPANY)), persons);
+        assertMatchesSameAsTest(new PersonFlagsPredicate(List.of()), persons);
+    }
+
+    private void assertMatchesSameAsTest(PersonFlagsPredicate predicate, UniquePersonList persons) {
+        Set<Person> expected = new HashSet<>();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                expected.add(person);
+            }
+        }
+        assertEquals(expected, new HashSet<>(predicate.findMatches(persons)));
+        assertTrue(predicate.estimateMatches(persons) >= expected.size());
+    }
+}
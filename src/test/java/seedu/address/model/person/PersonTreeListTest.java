@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTreeListTest {
+
+    private final PersonTreeList list = new PersonTreeList();
+
+    @Test
+    public void add_samePersonTwice_throwsIllegalArgumentException() {
+        Person amy = new PersonBuilder().withName("Amy").build();
+        list.add(amy);
+        assertThrows(IllegalArgumentException.class, () -> list.add(amy));
+
+        // a person equal but not the same can be added, but not replaced by a person already in the list
+        list.add(new PersonBuilder(amy).build());
+        assertEquals(2, list.size());
+        assertThrows(IllegalArgumentException.class, () -> list.set(1, amy));
+        assertEquals(amy, list.set(0, amy));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayListAndListenersKeptInSync() {
+        Random random = new Random(42);
+        List<Person> expected = new ArrayList<>();
+        List<Person> mirror = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                list.add(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, person), list.set(index, person));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected, mirror);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.indexOfSame(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void indexOfSame_onlyFindsSamePerson() {
+        Person amy = new PersonBuilder().withName("Amy").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        list.setAll(List.of(amy, bob));
+
+        assertEquals(1, list.indexOfSame(bob));
+        assertTrue(list.containsSame(amy));
+        assertFalse(list.containsSame(new PersonBuilder(amy).build()));
+        assertEquals(-1, list.indexOfSame(new PersonBuilder(amy).build()));
+
+        list.remove(0);
+        assertEquals(0, list.indexOfSame(bob));
+        assertEquals(-1, list.indexOfSame(amy));
+    }
+}
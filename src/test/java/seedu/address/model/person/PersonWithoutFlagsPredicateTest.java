@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonWithoutFlagsPredicateTest {
+
+    private static final PersonWithoutFlagsPredicate NO_PRIORITY =
+            new PersonWithoutFlagsPredicate(List.of(PersonFlag.HIGH_PRIORITY, PersonFlag.MED_PRIORITY));
+    private static final PersonWithoutFlagsPredicate NOT_STARRED =
+            new PersonWithoutFlagsPredicate(List.of(PersonFlag.STARRED));
+
+    @Test
+    public void equals() {
+        assertTrue(NO_PRIORITY.equals(NO_PRIORITY));
+        PersonWithoutFlagsPredicate noPriorityCopy =
+                new PersonWithoutFlagsPredicate(List.of(PersonFlag.MED_PRIORITY, PersonFlag.HIGH_PRIORITY));
+        assertTrue(NO_PRIORITY.equals(noPriorityCopy));
+        assertEquals(NO_PRIORITY.hashCode(), noPriorityCopy.hashCode());
+        assertFalse(NO_PRIORITY.equals(null));
+        assertFalse(NO_PRIORITY.equals(NOT_STARRED));
+        assertFalse(NOT_STARRED.equals(new PersonFlagsPredicate(List.of(PersonFlag.STARRED))));
+    }
+
+    @Test
+    public void test() {
+        assertTrue(NO_PRIORITY.test(new PersonBuilder().withPriority("").build()));
+        assertFalse(NO_PRIORITY.test(new PersonBuilder().withPriority("high").build()));
+        assertFalse(NO_PRIORITY.test(new PersonBuilder().withPriority("med").build()));
+        assertTrue(NOT_STARRED.test(new PersonBuilder().withStar(false).build()));
+        assertFalse(NOT_STARRED.test(new PersonBuilder().withStar(true).build()));
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            personList.add(new PersonBuilder().withName("Person " + i)
+                    .withPriority(i % 3 == 0 ? "high" : i % 3 == 1 ? "med" : "").withStar(i % 2 == 0).build());
+        }
+        persons.setPersons(personList);
+        persons.remove(personList.get(64));
+
+        for (PersonWithoutFlagsPredicate predicate : List.of(NO_PRIORITY, NOT_STARRED)) {
+            Set<Person> expected = new HashSet<>();
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    expected.add(person);
+                }
+            }
+            assertEquals(expected, new HashSet<>(predicate.findMatches(persons)));
+            assertTrue(predicate.estimateMatches(persons) >= expected.size());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneTrieTest {
+
+    private final PhoneTrie trie = new PhoneTrie();
+
+    private final Person amy = new PersonBuilder().withName("Amy").withPhone("65161234").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withPhone("65169999").build();
+    private final Person carl = new PersonBuilder().withName("Carl").withPhone("651").build();
+    private final Person dan = new PersonBuilder().withName("Dan").withPhone("91234567").build();
+
+    @Test
+    public void getPersonsWithPrefix_prefixesAndFullNumbers() {
+        trie.add(amy);
+        trie.add(bob);
+        trie.add(carl);
+        trie.add(dan);
+
+        assertEquals(Set.of(amy, bob, carl, dan), trie.getPersonsWithPrefix(""));
+        assertEquals(Set.of(amy, bob, carl), trie.getPersonsWithPrefix("651"));
+        assertEquals(Set.of(amy, bob), trie.getPersonsWithPrefix("6516"));
+        assertEquals(Set.of(amy), trie.getPersonsWithPrefix("65161234"));
+        assertTrue(trie.getPersonsWithPrefix("651612345").isEmpty());
+        assertTrue(trie.getPersonsWithPrefix("8").isEmpty());
+    }
+
+    @Test
+    public void countWithPrefix_followsAddsAndRemoves() {
+        trie.add(amy);
+        trie.add(bob);
+        trie.add(carl);
+        assertEquals(3, trie.countWithPrefix(""));
+        assertEquals(2, trie.countWithPrefix("6516"));
+        assertEquals(0, trie.countWithPrefix("9"));
+
+        trie.remove(new PersonBuilder(bob).build());
+        assertEquals(2, trie.countWithPrefix("6516"));
+        trie.remove(bob);
+        assertEquals(1, trie.countWithPrefix("6516"));
+        assertEquals(2, trie.countWithPrefix("651"));
+    }
+
+    @Test
+    public void remove_personsNoLongerFound() {
+        trie.add(amy);
+        trie.add(carl);
+        trie.remove(amy);
+        assertEquals(Set.of(carl), trie.getPersonsWithPrefix("65"));
+        assertTrue(trie.getPersonsWithPrefix("6516").isEmpty());
+
+        // removing a person that is equal but not the same leaves the person in place
+        trie.remove(new PersonBuilder(carl).build());
+        assertEquals(Set.of(carl), trie.getPersonsWithPrefix("651"));
+
+        trie.remove(carl);
+        assertTrue(trie.getPersonsWithPrefix("").isEmpty());
+    }
+
+    @Test
+    public void clear_noPersonsFound() {
+        trie.add(dan);
+        trie.clear();
+        assertTrue(trie.getPersonsWithPrefix("").isEmpty());
+    }
+}
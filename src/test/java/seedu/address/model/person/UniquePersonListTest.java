@@ -9,9 +9,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +53,53 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByName(null));
+    }
+
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName().fullName.toUpperCase()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName().fullName));
+    }
+
+    @Test
+    public void findByName_turkishDefaultLocale_ignoresCaseOfDottedI() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Person ivan = new PersonBuilder().withName("IVAN").build();
+            uniquePersonList.add(ivan);
+            assertEquals(Optional.of(ivan), uniquePersonList.findByName("ivan"));
+            assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(
+                    new PersonBuilder().withName("ivan").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void findByName_afterSetPersonAndRemove_staysInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByName(ALICE.getName().fullName));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName().fullName));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName().fullName));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByName_afterSetPersons_staysInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(ALICE.getName().fullName));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName().fullName));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -127,6 +180,87 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_copyOfPersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovals_changeRightPositions() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+
+        uniquePersonList.remove(persons.remove(2));
+        uniquePersonList.remove(persons.remove(5));
+        Person edited = new PersonBuilder(persons.get(6)).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(persons.get(6), edited);
+        persons.set(6, edited);
+        // a copy of a person in the list is found too
+        uniquePersonList.remove(new PersonBuilder(persons.remove(0)).build());
+        uniquePersonList.remove(edited);
+        persons.remove(edited);
+
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getId_afterEditsAndRemovals_staysWithPerson() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+        assertEquals(3, uniquePersonList.getId(persons.get(3)));
+
+        // Removing a person does not change the ids of the persons after it, and an edited person keeps its id
+        uniquePersonList.remove(persons.get(1));
+        Person edited = new PersonBuilder(persons.get(3)).withName("Person 3 Tan").build();
+        uniquePersonList.setPerson(persons.get(3), edited);
+        assertEquals(3, uniquePersonList.getId(edited));
+        assertEquals(4, uniquePersonList.getId(persons.get(4)));
+        assertEquals(Optional.of(edited), uniquePersonList.findById(3));
+        assertEquals(Optional.empty(), uniquePersonList.findById(1));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getId(persons.get(3)));
+
+        // The id of a removed person is reused
+        Person added = new PersonBuilder().withName("Person 5").build();
+        uniquePersonList.add(added);
+        assertEquals(1, uniquePersonList.getId(added));
+
+        uniquePersonList.setPersons(List.of(added, edited));
+        assertEquals(0, uniquePersonList.getId(added));
+        assertEquals(1, uniquePersonList.getId(edited));
+        assertEquals(Optional.empty(), uniquePersonList.findById(2));
+    }
+
+    @Test
+    public void withIndexes_personsAddedAndEdited_matchesFoundOnce() {
+        uniquePersonList.add(ALICE);
+        List<UniquePersonList> lookups = new ArrayList<>();
+        Predicate<Person> predicate = uniquePersonList.withIndexes(new NameContainsKeywordsPredicate(List.of("al")) {
+            @Override
+            public Set<Person> findMatches(UniquePersonList persons) {
+                lookups.add(persons);
+                return super.findMatches(persons);
+            }
+        });
+        assertTrue(predicate.test(ALICE));
+
+        // Persons added or edited since the matches were found are tested one by one instead
+        Person alan = new PersonBuilder().withName("Alan").build();
+        uniquePersonList.add(alan);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Bob Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(alan));
+        assertFalse(predicate.test(editedAlice));
+        assertEquals(1, lookups.size());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +296,42 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameDifferentCase_throwsDuplicatePersonException() {
+        Person aliceInUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceInUpperCase);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void applyChanges_nameTakenByPersonStaying_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.applyChanges(List.of(), Map.of(ALICE, aliceAsBob), List.of()));
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.applyChanges(List.of(new PersonBuilder(ALICE).build()), Map.of(), List.of()));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyChanges_personsLeaveAndArrive_sameAsRebuiltList() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        Person bobAsAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        uniquePersonList.applyChanges(List.of(), Map.of(ALICE, aliceAsBob, BOB, bobAsAlice), List.of(amy));
+        uniquePersonList.applyChanges(List.of(aliceAsBob), Map.of(), List.of());
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(List.of(bobAsAlice, amy));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Optional.of(bobAsAlice), uniquePersonList.findByName(ALICE.getName().fullName));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName().fullName));
+        assertEquals(Set.of(amy), uniquePersonList.findByNameContaining("amy"));
+        assertEquals(1, uniquePersonList.getId(bobAsAlice));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,122 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.CompanyContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFlag;
+import seedu.address.model.person.PersonFlagsPredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.TagExpressionPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+
+public class QueryPlannerTest {
+
+    private static final Query HIGH_PRIORITY =
+            new Query.Field("priority:high", new PersonFlagsPredicate(List.of(PersonFlag.HIGH_PRIORITY)));
+    private static final Query MED_PRIORITY =
+            new Query.Field("priority:med", new PersonFlagsPredicate(List.of(PersonFlag.MED_PRIORITY)));
+    private static final Query FRIENDS =
+            new Query.Field("tag:friends", new TagExpressionPredicate(List.of(Set.of(new Tag("friends")))));
+    private static final Query MEIER =
+            new Query.Field("name:meier", new NameContainsKeywordsPredicate(List.of("meier")));
+    private static final Query GOOGLE =
+            new Query.Field("company:google", new CompanyContainsKeywordsPredicate(List.of("google")));
+    private static final Query PHONE_9482 = new Query.Field("phone:9482", new PhonePrefixPredicate("9482"));
+    private static final Query EXAMPLE_EMAIL =
+            new Query.Field("email:example", person -> person.getEmail().value.contains("example"));
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    public QueryPlannerTest() {
+        persons.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void plan_variousQueries_sameMatchesAsTest() {
+        List<Query> queries = List.of(HIGH_PRIORITY, EXAMPLE_EMAIL, new Query.Not(FRIENDS),
+                new Query.And(List.of(FRIENDS, MEIER)),
+                new Query.And(List.of(MEIER, EXAMPLE_EMAIL, new Query.Not(MED_PRIORITY))),
+                new Query.Or(List.of(GOOGLE, PHONE_9482, HIGH_PRIORITY)),
+                new Query.Or(List.of(GOOGLE, new Query.Not(FRIENDS))),
+                new Query.And(List.of(FRIENDS, new Query.Or(List.of(HIGH_PRIORITY, MEIER)))));
+
+        for (Query query : queries) {
+            Set<Person> expected = persons.asUnmodifiableObservableList().stream().filter(query)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, QueryPlanner.plan(query, persons).execute(), query.toString());
+        }
+    }
+
+    @Test
+    public void plan_conjunction_mostSelectiveIndexDrives() {
+        QueryPlan plan = QueryPlanner.plan(new Query.And(List.of(FRIENDS, EXAMPLE_EMAIL, MED_PRIORITY)), persons);
+
+        // the two medium-priority persons are cheaper to check for being friends than looking up all friends
+        assertEquals("Intersect (about 2)\n"
+                + "  Look up priority:med in index (about 2)\n"
+                + "  Check email:example on each candidate\n"
+                + "  Check tag:friends on each candidate\n", plan.describe());
+        assertEquals(4, plan.getEstimatedCost());
+        assertEquals(Set.of(BENSON, DANIEL), plan.execute());
+    }
+
+    @Test
+    public void plan_conjunctionOfSimilarSelectivity_intersectsLookups() {
+        QueryPlan plan = QueryPlanner.plan(new Query.And(List.of(MEIER, MED_PRIORITY)), persons);
+
+        assertEquals("Intersect (about 2)\n"
+                + "  Look up name:meier in index (about 2)\n"
+                + "  Look up priority:med in index (about 2)\n", plan.describe());
+        assertEquals(4, plan.getEstimatedCost());
+        assertEquals(Set.of(BENSON, DANIEL), plan.execute());
+    }
+
+    @Test
+    public void plan_noUsableIndex_scans() {
+        QueryPlan plan = QueryPlanner.plan(new Query.Or(List.of(GOOGLE, new Query.Not(FRIENDS))), persons);
+
+        assertTrue(plan instanceof QueryPlan.Scan);
+        assertEquals(persons.size(), plan.getEstimatedCost());
+    }
+
+    @Test
+    public void plan_disjunctionOfIndexedConditions_combinesLookups() {
+        QueryPlan plan = QueryPlanner.plan(new Query.Or(List.of(GOOGLE, MED_PRIORITY)), persons);
+
+        assertEquals("Combine (about 3)\n"
+                + "  Look up company:google in index (about 1)\n"
+                + "  Look up priority:med in index (about 2)\n", plan.describe());
+        assertEquals(Set.of(BENSON, DANIEL), plan.execute());
+    }
+
+    @Test
+    public void plan_followsChangesToList() {
+        Query query = new Query.And(List.of(HIGH_PRIORITY, FRIENDS));
+        persons.remove(ALICE);
+        assertTrue(QueryPlanner.plan(query, persons).execute().isEmpty());
+    }
+
+    @Test
+    public void queryPredicate_listChangedAfterPlanning_plansAgain() {
+        QueryPredicate predicate = new QueryPredicate(new Query.And(List.of(HIGH_PRIORITY, FRIENDS)));
+        assertTrue(predicate.estimateMatches(persons) >= 1);
+        assertEquals(Set.of(ALICE), predicate.findMatches(persons));
+
+        persons.remove(ALICE);
+        assertTrue(predicate.findMatches(persons).isEmpty());
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("TempAddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("TempAddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        // Every field survives, including those that Person#equals ignores
+        Person detailedPerson = new PersonBuilder(HOON).withCompany("Google").withPriority("high").withStar(true)
+                .withRemark("Prefers email").withMeeting("Interview: 20 March 2024 (1500 - 1600)").build();
+        original.addPerson(detailedPerson);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        Person readPerson = readBack.findPersonByName(HOON.getName().fullName).get();
+        assertEquals(detailedPerson.getCompany(), readPerson.getCompany());
+        assertEquals(detailedPerson.getPriority(), readPerson.getPriority());
+        assertEquals(detailedPerson.getRemark(), readPerson.getRemark());
+        assertEquals(detailedPerson.getMeeting(), readPerson.getMeeting());
+        assertTrue(readPerson.isStarred());
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_readsEitherWay() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(jsonFilePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = 99;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+}
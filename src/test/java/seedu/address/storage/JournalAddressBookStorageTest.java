@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config.DataFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Later saves only append to the journal
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        original.setPerson(BENSON, renamedBenson);
+        storage.saveAddressBook(original);
+        Person starredIda = new PersonBuilder(IDA).withStar(false).build();
+        original.addPerson(starredIda);
+        storage.saveAddressBook(original);
+        original.setPerson(starredIda, new PersonBuilder(starredIda).withStar(true).build());
+        storage.saveAddressBook(original);
+
+        AddressBook snapshot = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), snapshot);
+        assertTrue(Files.size(JournalAddressBookStorage.getJournalFilePath(filePath)) > 0);
+
+        // Replaying the journal restores the changes in order, including edited persons staying in place
+        AddressBook readBack = new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertTrue(readBack.findPersonByName(IDA.getName().fullName).get().isStarred());
+    }
+
+    @Test
+    public void saveAddressBook_changesSinceLastSave_oneRecordPerPersonChanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // A person added and then edited, and a person edited twice, each take a single record
+        original.addPerson(HOON);
+        Person starredHoon = new PersonBuilder(HOON).withStar(true).build();
+        original.setPerson(HOON, starredHoon);
+        Person bensonTan = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        original.setPerson(BENSON, bensonTan);
+        original.setPerson(bensonTan, new PersonBuilder(bensonTan).withStar(true).build());
+        original.addPerson(IDA);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        // Persons taking each other's names cannot be replayed one by one, so a snapshot is written instead
+        Person aliceAsBenson = new PersonBuilder(ALICE).withName("Benson Meier").build();
+        original.setPerson(original.findPersonByName("Benson Tan").get(),
+                new PersonBuilder(BENSON).withName("Alice Tan").build());
+        original.setPerson(ALICE, aliceAsBenson);
+        original.setPerson(original.findPersonByName("Alice Tan").get(),
+                new PersonBuilder(BENSON).withName("Alice Pauline").build());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original.getPersonList(),
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()).getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_copyOfAddressBookRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook copy = new AddressBook(storage.readAddressBook().get());
+        copy.addPerson(HOON);
+        storage.saveAddressBook(copy);
+        copy.addPerson(IDA);
+        storage.saveAddressBook(copy);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(copy, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, DataFormat.PRETTY_JSON, 0, 0);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertEquals(0, Files.size(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Saving carries on appending after compaction
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_formatAndBackupCount_appliedToSnapshots() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, DataFormat.GZIP_JSON, 1, 0);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        // The compacted snapshot is compressed, and the first snapshot is kept as a backup
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xff) | ((bytes[1] & 0xff) << 8));
+        Path backupPath = FileUtil.getBackupPath(filePath, 1);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(backupPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(filePath, DataFormat.BINARY, 0));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath, "{\"sequence\":99,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // The next record must not be appended to the discarded one
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotInOtherFormats_readAndJournaled() throws Exception {
+        for (DataFormat format : DataFormat.values()) {
+            Path filePath = testFolder.resolve("TempAddressBook" + format + ".json");
+            AddressBook original = getTypicalAddressBook();
+            if (format == DataFormat.BINARY) {
+                new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+            } else {
+                new JsonAddressBookStorage(filePath, format, 0).saveAddressBook(original);
+            }
+
+            JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+            AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+            assertEquals(original, readBack, format.toString());
+            readBack.addPerson(HOON);
+            storage.saveAddressBook(readBack);
+            assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+            assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_unreadableSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.write(filePath, "not an address book".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"sequence\":1,\"removed\":\"Nobody\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAndFlush_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        // Later changes to the model must not leak into the snapshot being saved
+        AddressBook modified = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.flushAddressBook();
+        assertEquals(modified, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Only the latest of several saves needs to reach the disk
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundSaveFails_failureReportedOnceAndSurfacesOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("Failing.json");
+        IOException dummyException = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        };
+        List<String> failures = new ArrayList<>();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(failingStorage,
+            (failedPath, cause) -> failures.add(failedPath + ": " + cause.getMessage()));
+
+        // Later saves do not fail because of the earlier one, which is reported on its own
+        storage.saveAddressBook(new AddressBook());
+        storage.readAddressBook();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, dummyException.getMessage(), storage::flushAddressBook);
+        assertEquals(List.of(filePath + ": " + dummyException.getMessage()), failures);
+    }
+
+    @Test
+    public void flushAddressBook_backgroundSaveFailedOnce_failedSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage flakyStorage = new JsonAddressBookStorage(filePath) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(flakyStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        // The snapshot that failed to be written stays pending, and is written by the flush
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+}